@@ -0,0 +1,106 @@
+package com.project.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.cache.StoreCatalogVersion;
+import com.project.common.model.PageResponse;
+import com.project.common.model.SuccessResponse;
+import com.project.common.util.LruCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 상점 검색(이름순, 별점순) 응답 캐시
+ * 상점 목록 버전 + 시간 구간 + 정렬(Slice 조회 여부 포함) + 페이지 + 크기로 ETag 생성
+ * - If-None-Match 일치하면 조회, 직렬화 없이 304 반환
+ * - 캐시에 있으면 직렬화된 응답 그대로 반환
+ *
+ * 상점 목록 버전은 JVM 안에서만 증가 -> 다른 인스턴스에서 변경된 내용은 알 수 없음
+ * ETag 에 RESPONSE_TTL_MS 단위 시간 구간도 포함해서 캐시, 304 응답이 그 이상 오래된 결과를 주지 않도록 제한
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreSearchResponseCache {
+
+    private static final int RESPONSE_CACHE_SIZE = 1_000;
+
+    // 다른 인스턴스 변경이 반영되기까지 최대 시간
+    private static final long RESPONSE_TTL_MS = 30_000;
+
+    private final StoreCatalogVersion storeCatalogVersion;
+    private final ObjectMapper objectMapper;
+
+    // 버전, 시간 구간이 바뀌면 키도 바뀌므로 이전 응답은 오래된 순으로 제거됨
+    private final LruCache<String, byte[]> responseCache = new LruCache<>(RESPONSE_CACHE_SIZE);
+
+    public <T> ResponseEntity<?> respond(
+            String sort, Pageable pageable, String ifNoneMatch, Supplier<PageResponse<T>> search
+    ) {
+
+        // 조회 전에 버전 확인 -> 조회 중 변경 생겨도 이전 버전 키로만 저장됨
+        String eTag = toETag(
+                storeCatalogVersion.current(), System.currentTimeMillis() / RESPONSE_TTL_MS, sort, pageable
+        );
+
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        byte[] body = responseCache.get(eTag);
+
+        if (body == null) {
+            body = serialize(SuccessResponse.of(search.get()));
+            responseCache.put(eTag, body);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private String toETag(long version, long window, String sort, Pageable pageable) {
+        return "\"store-" + version + "-" + window + "-" + sort + "-"
+                + pageable.getPageNumber() + "-" + pageable.getPageSize() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 ETag 포함되어 있는지 확인 (여러 개, * 허용)
+     */
+    private boolean matches(String ifNoneMatch, String eTag) {
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상점 검색 응답 직렬화 실패", e);
+        }
+    }
+}
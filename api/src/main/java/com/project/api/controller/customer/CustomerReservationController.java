@@ -24,10 +24,12 @@ public class CustomerReservationController {
 
     /**
      * 고객 예약 엔드포인트
+     * Idempotency-Key 헤더로 재시도 시 중복 예약 방지 (같은 키면 최초 결과 반환)
      */
     @PostMapping("/{customerEmail}/reservation")
     public ResponseEntity<?> doReservation(
             @PathVariable String customerEmail,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody @Validated CustomerReservationForm form
             ) {
 
@@ -35,7 +37,7 @@ public class CustomerReservationController {
         authVerityUtil.verifyUser(customerEmail);
 
         ReservationResponse reservationResponse =
-                reservationService.makeReservation(customerEmail, form);
+                reservationService.makeReservation(customerEmail, form, idempotencyKey);
 
         return ResponseEntity.status(CREATED)
                 .body(SuccessResponse.of(reservationResponse));
@@ -1,20 +1,33 @@
 package com.project.api.controller.customer;
 
+import com.project.api.cache.StoreSearchResponseCache;
 import com.project.common.model.PageResponse;
 import com.project.common.model.SuccessResponse;
+import com.project.customerservice.service.CustomerReservationService;
 import com.project.customerservice.service.CustomerSearchService;
+import com.project.domain.model.StoreSearchCondition;
 import com.project.domain.model.UserLocation;
 import jakarta.annotation.security.PermitAll;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import static com.project.domain.response.StoreResponse.StoreInfoResponse;
+import static com.project.domain.response.StoreResponse.StoreSuggestResponse;
 
 @RestController
 @RequestMapping("/store")
@@ -22,6 +35,8 @@ import static com.project.domain.response.StoreResponse.StoreInfoResponse;
 public class CustomerSearchController {
 
     private final CustomerSearchService customerSearchService;
+    private final StoreSearchResponseCache storeSearchResponseCache;
+    private final CustomerReservationService customerReservationService;
 
     // 상점 검색 기능은 로그인 하지 않아도 가능
     // 검색 결과는 페이징 처리
@@ -29,13 +44,86 @@ public class CustomerSearchController {
     /**
      * 이름 순 상점 리스트 조회
      * @param pageable
+     * @param withTotal false 면 count 쿼리 없이 조회 (전체 개수는 근사값)
+     * @param ifNoneMatch 이전 응답의 ETag (일치하면 304 반환)
      * @return PageResponse 형태로 반환
      */
     @GetMapping(params = "sort=name") // sort 파라미터가 name일 경우에 실행
-    public ResponseEntity<?> searchStoreSortByName(Pageable pageable) {
+    public ResponseEntity<?> searchStoreSortByName(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 순환참조 방지 위해 PageResponse 형태로 반환
+        if (withTotal) {
+            return storeSearchResponseCache.respond("name", pageable, ifNoneMatch, () ->
+                    PageResponse.of(customerSearchService.sortByName(pageable).map(StoreInfoResponse::fromDto))
+            );
+        }
+
+        return storeSearchResponseCache.respond("name-slice", pageable, ifNoneMatch, () ->
+                PageResponse.ofSlice(
+                        customerSearchService.sliceByName(pageable).map(StoreInfoResponse::fromDto),
+                        customerSearchService.approximateStoreCount()
+                )
+        );
+    }
+
+    /**
+     * 별점 순 상점 리스트 조회
+     * @param pageable
+     * @param withTotal false 면 count 쿼리 없이 조회 (전체 개수는 근사값)
+     * @param ifNoneMatch 이전 응답의 ETag (일치하면 304 반환)
+     * @return PageResponse 형태로 반환
+     */
+    @PermitAll
+    @GetMapping(params = "sort=star") // sort 파라미터가 star일 경우에 실행
+    public ResponseEntity<?> searchStoreSortByStar(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (withTotal) {
+            return storeSearchResponseCache.respond("star", pageable, ifNoneMatch, () ->
+                    PageResponse.of(customerSearchService.sortByStar(pageable).map(StoreInfoResponse::fromDto))
+            );
+        }
+
+        return storeSearchResponseCache.respond("star-slice", pageable, ifNoneMatch, () ->
+                PageResponse.ofSlice(
+                        customerSearchService.sliceByStar(pageable).map(StoreInfoResponse::fromDto),
+                        customerSearchService.approximateStoreCount()
+                )
+        );
+    }
+
+    /**
+     *
+     * @param userLocation  유저의 위도, 경도, 검색 반경(radiusKm, 선택), 거리 계산 방식(mode, 선택)
+     * @param pageable 페이지 정보
+     * @param withTotal false 면 count 쿼리 없이 조회 (전체 개수는 근사값)
+     * @return PageResponse 형태로 반환
+     */
+    @PermitAll
+    @GetMapping(params = "sort=dist") // sort 파라미터가 dist일 경우에 실행
+    public ResponseEntity<?> searchStoreSortByDistance(
+            @ModelAttribute UserLocation userLocation, // 파라미터로 현재 유저의 위치 정보, 반경 받음
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+
+        if (!withTotal) {
+            Slice<StoreInfoResponse> slice = customerSearchService.sliceByDistance(userLocation, pageable).map(StoreInfoResponse::fromDto);
+
+            // 반경 검색은 전체 상점 수와 다르므로 전체 개수 모름(-1)으로 반환
+            long approximateTotal = userLocation.getRadiusKm() == null
+                    ? customerSearchService.approximateStoreCount() : -1;
 
-        Page<StoreInfoResponse> list =   // 순환참조 방지 위해 PageResponse 형태로 반환
-                customerSearchService.sortByName(pageable).map(StoreInfoResponse::fromDto);
+            return ResponseEntity.ok(
+                    SuccessResponse.of(PageResponse.ofSlice(slice, approximateTotal))
+            );
+        }
+
+        Page<StoreInfoResponse> list = customerSearchService.sortByDistance(userLocation, pageable).map(StoreInfoResponse::fromDto);
 
         return ResponseEntity.ok(
                 SuccessResponse.of(PageResponse.of(list))
@@ -43,15 +131,35 @@ public class CustomerSearchController {
     }
 
     /**
-     * 별점 순 상점 리스트 조회
-     * @param pageable
+     * 인기 순 상점 리스트 조회 (최근 예약, 방문 많은 순)
+     * @param pageable 페이지 정보
+     * @return PageResponse 형태로 반환 (최근 활동 있는 상점만 포함)
+     */
+    @PermitAll
+    @GetMapping(params = "sort=popular") // sort 파라미터가 popular일 경우에 실행
+    public ResponseEntity<?> searchStoreSortByPopularity(Pageable pageable) {
+
+        Page<StoreInfoResponse> list = customerSearchService.sortByPopularity(pageable).map(StoreInfoResponse::fromDto);
+
+        return ResponseEntity.ok(
+                SuccessResponse.of(PageResponse.of(list))
+        );
+    }
+
+    /**
+     * 상점 통합 검색 (조건 모두 선택)
+     * @param condition 상태(status), 최소 별점(minStar), 이름 시작 문자열(namePrefix),
+     *                  위치(lat, lon), 반경(radiusKm), 거리 계산 방식(mode), 정렬 기준(orderBy)
+     * @param pageable 페이지 정보
      * @return PageResponse 형태로 반환
      */
     @PermitAll
-    @GetMapping(params = "sort=star") // sort 파라미터가 star일 경우에 실행
-    public ResponseEntity<?> searchStoreSortByStar(Pageable pageable) {
+    @GetMapping("/search")
+    public ResponseEntity<?> searchStore(
+            @ModelAttribute StoreSearchCondition condition,
+            Pageable pageable) {
 
-        Page<StoreInfoResponse> list = customerSearchService.sortByStar(pageable).map(StoreInfoResponse::fromDto);
+        Page<StoreInfoResponse> list = customerSearchService.search(condition, pageable).map(StoreInfoResponse::fromDto);
 
         return ResponseEntity.ok(
                 SuccessResponse.of(PageResponse.of(list))
@@ -59,23 +167,63 @@ public class CustomerSearchController {
     }
 
     /**
-     *
-     * @param userLocation  유저의 위도, 경도
+     * 상점 이름, 설명 텍스트 검색
+     * @param keyword 검색어
+     * @param userLocation 유저의 위도, 경도 (선택, 있으면 가까운 상점 점수 가산)
      * @param pageable 페이지 정보
      * @return PageResponse 형태로 반환
      */
     @PermitAll
-    @GetMapping(params = "sort=dist") // sort 파라미터가 dist일 경우에 실행
-    public ResponseEntity<?> searchStoreSortByDistance(
-            @ModelAttribute UserLocation userLocation, // 파라미터로 현재 유저의 위치 정보 받음
+    @GetMapping("/search/text")
+    public ResponseEntity<?> searchStoreByText(
+            @RequestParam String keyword,
+            @ModelAttribute UserLocation userLocation,
             Pageable pageable) {
 
-        Page<StoreInfoResponse> list = customerSearchService.sortByDistance(userLocation, pageable).map(StoreInfoResponse::fromDto);
+        Page<StoreInfoResponse> list = customerSearchService.searchByText(keyword, userLocation, pageable).map(StoreInfoResponse::fromDto);
 
         return ResponseEntity.ok(
                 SuccessResponse.of(PageResponse.of(list))
         );
     }
 
+    /**
+     * 상점 이름 자동완성
+     * @param q 입력 중인 검색어 (상점 이름 앞부분)
+     * @param size 최대 개수 (1 ~ 10)
+     * @return 별점 높은 순 상점 이름 목록
+     */
+    @PermitAll
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestStoreName(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+
+        List<StoreSuggestResponse> list = customerSearchService.suggest(q, size).stream()
+                .map(StoreSuggestResponse::fromDto)
+                .toList();
+
+        return ResponseEntity.ok(
+                SuccessResponse.of(list)
+        );
+    }
+
+    /**
+     * 상점의 날짜별 예약 가능 시간 (30분 단위)
+     * @param storeId 상점 아이디
+     * @param date 예약 날짜 (오늘 이후)
+     * @return 시간 칸별 상태 (AVAILABLE, OCCUPIED, CLOSED)
+     */
+    @PermitAll
+    @GetMapping("/{storeId}/availability")
+    public ResponseEntity<?> getReservationAvailability(
+            @PathVariable Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        return ResponseEntity.ok(
+                SuccessResponse.of(customerReservationService.getAvailability(storeId, date))
+        );
+    }
+
 
 }
@@ -1,14 +1,18 @@
 package com.project.api.controller.partner;
 
 import com.project.common.model.SuccessResponse;
+import com.project.domain.dto.ReservationDecisionDto;
 import com.project.domain.dto.ReservationDto;
+import com.project.domain.response.ReservationBatchResponse;
 import com.project.domain.response.ReservationResponse;
+import com.project.partnerservice.model.ReservationDecisionForm;
 import com.project.partnerservice.model.ReservationTimeTable;
 import com.project.partnerservice.service.PartnerReservationService;
 import com.project.securityservice.util.AuthVerityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -85,4 +89,26 @@ public class PartnerReservationController {
     }
 
 
+    /**
+     * 여러 예약 한번에 승인/거절하는 엔드포인트
+     * 예약별 처리 결과 반환
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> decideReservations(
+            @PathVariable String partnerEmail,
+            @RequestBody @Validated ReservationDecisionForm form
+    ) {
+
+        // 올바른 파트너의 접근인지 검증
+        authVerityUtil.verifyUser(partnerEmail);
+
+        List<ReservationDecisionDto> list =
+                partnerReservationService.decideReservations(partnerEmail, form);
+
+        return ResponseEntity.ok(
+                SuccessResponse.of(ReservationBatchResponse.fromDtos(form.getDecision(), list))
+        );
+    }
+
+
 }
@@ -0,0 +1,59 @@
+package com.project.benchmarks;
+
+import com.project.common.util.GeoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리순 상점 정렬 벤치마크
+ * StoreQueryRepositoryImpl 에서 SQL로 계산하는 공식(GeoUtil.distanceKm)으로 전체 상점 정렬
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistanceOrderingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int storeCount;
+
+    // 서울 시청
+    private static final double USER_LAT = 37.5665;
+    private static final double USER_LON = 126.9780;
+
+    private double[][] stores;
+
+    @Setup
+    public void setUp() {
+
+        SplittableRandom random = new SplittableRandom(42);
+        stores = new double[storeCount][];
+
+        // 국내 좌표 범위 안에서 랜덤 생성
+        for (int i = 0; i < storeCount; i++) {
+            stores[i] = new double[]{
+                    random.nextDouble(33, 39), random.nextDouble(124, 131)
+            };
+        }
+    }
+
+    @Benchmark
+    public double[][] sortByDistance() {
+
+        double[][] sorted = stores.clone();
+
+        Arrays.sort(sorted, Comparator.comparingDouble(
+                store -> GeoUtil.distanceKm(USER_LAT, USER_LON, store[0], store[1])
+        ));
+
+        return sorted;
+    }
+
+    @Benchmark
+    public double distance() {
+        return GeoUtil.distanceKm(USER_LAT, USER_LON, stores[0][0], stores[0][1]);
+    }
+}
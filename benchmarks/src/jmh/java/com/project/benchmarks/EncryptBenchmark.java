@@ -0,0 +1,45 @@
+package com.project.benchmarks;
+
+import com.project.securityservice.util.impl.EncryptComponentImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문자열 암호화, 복호화 (EncryptComponentImpl) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncryptBenchmark {
+
+    static final String SECRET_KEY = "fhkljbewouin423adklj32nt38490b43";
+
+    private EncryptComponentImpl encryptComponent;
+    private String encryptedString;
+
+    @Setup
+    public void setUp() {
+
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("encrypt.secretKey", SECRET_KEY))
+        );
+
+        encryptComponent = new EncryptComponentImpl(env);
+        encryptedString = encryptComponent.encryptString("customer@test.com");
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptComponent.encryptString("customer@test.com");
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptComponent.decryptString(encryptedString);
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.domain.dto.InitReservationDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kafka 예약 메시지 (InitReservationDto) 직렬화, 역직렬화 벤치마크
+ * ObjectMapper 설정은 JacksonConfig와 동일
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InitReservationSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private InitReservationDto initReservationDto;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+
+        mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        initReservationDto = InitReservationDto.builder()
+                .customerId(1L)
+                .storeId(1L)
+                .reserveDt(LocalDateTime.now().plusDays(1))
+                .contact("010-1234-5678")
+                .idempotencyKey("1:5f0c2b1e-7a57-4c5e-9d3b-2f1c9a7e8b10")
+                .build();
+
+        json = mapper.writeValueAsString(initReservationDto);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return mapper.writeValueAsString(initReservationDto);
+    }
+
+    @Benchmark
+    public InitReservationDto deserialize() throws JsonProcessingException {
+        return mapper.readValue(json, InitReservationDto.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.benchmarks;
+
+import com.project.domain.dto.UserDto;
+import com.project.domain.model.SignDomainForm;
+import com.project.securityservice.config.JwtConfig;
+import com.project.securityservice.service.SecurityLoginService;
+import com.project.securityservice.util.impl.EncryptComponentImpl;
+import com.project.securityservice.util.impl.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성, 검증 (JwtTokenProvider) 벤치마크
+ * 실제 설정(JwtConfig, EncryptComponentImpl)과 같은 방식으로 빈 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String JWT_SECRET =
+            "ZGF5b25lLXNwcmluZy1ib290LWRpdmlkZW5kLXByb2plY3QtdHV0b3JpYWwtand0LXNlY3JldC1rZXkK";
+
+    private AnnotationConfigApplicationContext context;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+
+        context = new AnnotationConfigApplicationContext();
+
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource(
+                "benchmark", Map.of(
+                        "jwt.token.key.roles", "role",
+                        "jwt.token.key.secret", JWT_SECRET,
+                        "jwt.token.expired_time", "3600000",
+                        "encrypt.secretKey", EncryptBenchmark.SECRET_KEY
+                )
+        ));
+
+        context.register(JwtConfig.class, EncryptComponentImpl.class, JwtTokenProvider.class);
+        context.registerBean(SecurityLoginService.class, UnusedLoginService::new);
+        context.refresh();
+
+        tokenProvider = context.getBean(JwtTokenProvider.class);
+        token = generate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(1L, "customer@test.com", List.of("CUSTOMER"));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return tokenProvider.getEmail(token);
+    }
+
+
+    /**
+     * 토큰 생성, 검증에는 로그인 서비스 사용하지 않음 (DB 없이 빈 생성용)
+     */
+    private static class UnusedLoginService implements SecurityLoginService {
+
+        @Override
+        public UserDto register(SignDomainForm.SignUpForm form) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserDto logIn(SignDomainForm.SignInForm form) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserDetails loadByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
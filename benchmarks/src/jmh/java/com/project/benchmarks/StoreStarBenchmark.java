@@ -0,0 +1,30 @@
+package com.project.benchmarks;
+
+import com.project.domain.entity.Store;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상점 별점 계산 (Store.calculateStar) 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreStarBenchmark {
+
+    private Store store;
+    private long count;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = Store.builder().id(1L).star(0.0).build();
+        count = 0;
+    }
+
+    @Benchmark
+    public Double calculateStar() {
+        store.calculateStar((int) (count % 6), count++);
+        return store.getStar();
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.benchmarks;
+
+import com.project.domain.dto.ReservationDto;
+import com.project.domain.entity.Store;
+import com.project.domain.entity.User;
+import com.project.domain.type.ReservationApproveStatus;
+import com.project.partnerservice.model.ReservationTimeTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 타임테이블 생성 (ReservationTimeTable.TimeTable.fromDtos) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeTableBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int reservationCount;
+
+    private List<ReservationDto> reservationDtoList;
+
+    @Setup
+    public void setUp() {
+
+        Store store = Store.builder().id(1L).name("store").build();
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        // 실행마다 같은 예약 시간 분포 사용 (결과 비교용)
+        SplittableRandom random = new SplittableRandom(42);
+        reservationDtoList = new ArrayList<>();
+
+        for (long i = 0; i < reservationCount; i++) {
+
+            User customer = User.builder().id(i).email("customer" + i + "@test.com").build();
+
+            reservationDtoList.add(ReservationDto.builder()
+                    .id(i)
+                    .customer(customer)
+                    .store(store)
+                    .contactNumber("010-1234-5678")
+                    .reserveDt(date.atTime(random.nextInt(24), 0))
+                    .approveStatus(ReservationApproveStatus.PENDING)
+                    .visitYn(false)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ReservationTimeTable.TimeTable fromDtos() {
+        return ReservationTimeTable.TimeTable.fromDtos(reservationDtoList);
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.common.cache;
+
+import com.project.common.util.TransactionUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상점 목록 버전
+ * 상점 정보나 별점이 바뀌면 증가 -> 상점 검색 응답 캐시, ETag 무효화에 사용
+ * 재시작 전에 발급된 ETag 와 겹치지 않도록 시작 시각으로 초기화
+ */
+@Component
+public class StoreCatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 증가 (커밋 전 데이터가 새 버전으로 캐시되지 않도록)
+     */
+    public void increase() {
+        TransactionUtil.afterCommit(version::incrementAndGet);
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.common.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceType {
+
+    PRIMARY,    // 쓰기 (기본)
+    REPLICA     // readOnly 트랜잭션
+
+}
@@ -0,0 +1,20 @@
+package com.project.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * replica 접속 정보 (datasource.replica.*)
+ */
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private boolean enabled;
+
+    private String driverClassName = "org.mariadb.jdbc.Driver";
+    private String url;
+    private String username;
+    private String password;
+
+}
@@ -0,0 +1,18 @@
+package com.project.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션은 replica, 나머지는 primary 로 라우팅
+ * 트랜잭션 readOnly 여부가 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceType.REPLICA
+                : DataSourceType.PRIMARY;
+    }
+}
@@ -40,12 +40,17 @@ public enum ErrorCode {
     RESERVATION_NOT_VISIT(BAD_REQUEST, "this reservation is not visit"),
     RESERVATION_NOT_APPROVE(BAD_REQUEST, "this reservation is not approved"),
     RESERVATION_CODE_NOT_MATCH(BAD_REQUEST, "this is wrong code"),
+    RESERVATION_DECISION_INVALID(BAD_REQUEST, "this is invalid reservation decision"),
+    RESERVATION_IDEMPOTENCY_KEY_INVALID(BAD_REQUEST, "this is invalid idempotency key"),
+    RESERVATION_CONCURRENT_UPDATE(CONFLICT, "this reservation is being updated by another request"),
 
     REVIEW_ALREADY_WRITTEN(BAD_REQUEST, "this reservation is already written review"),
     REVIEW_NOT_FOUND(BAD_REQUEST, "couldn't find review"),
     REVIEW_CUSTOMER_NOT_MATCH(BAD_REQUEST, "this review is not written by current user"),
 
     GPS_COORDINATE_INVALID(BAD_REQUEST, "this is invalid gps coordinate"),
+    SEARCH_RADIUS_INVALID(BAD_REQUEST, "this is invalid search radius"),
+    SEARCH_CONDITION_INVALID(BAD_REQUEST, "this is invalid search condition"),
 
     ENCRYPT_FAIL(INTERNAL_SERVER_ERROR, "couldn't encrypt"),
     DECRYPT_FAIL(INTERNAL_SERVER_ERROR, "couldn't decrypt"),
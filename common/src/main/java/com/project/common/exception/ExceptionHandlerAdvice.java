@@ -5,6 +5,7 @@ import com.project.common.util.ErrorCodeUtil;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -47,6 +48,17 @@ public class ExceptionHandlerAdvice {
                 .body(ErrorResponse.of(customException));
     }
 
+    // 재시도 후에도 낙관적 락 충돌이 계속되는 경우 핸들러
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingException(OptimisticLockingFailureException e) {
+
+        CustomException customException =
+                new CustomException(ErrorCode.RESERVATION_CONCURRENT_UPDATE);
+        return ResponseEntity
+                .status(customException.getErrorCode().getStatus())
+                .body(ErrorResponse.of(customException));
+    }
+
     // 그 외 exception 핸들러
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleException(Exception e) {
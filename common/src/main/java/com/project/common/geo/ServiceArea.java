@@ -0,0 +1,303 @@
+package com.project.common.geo;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서비스 지역 포함 여부 확인
+ * 전체 지역 범위를 격자로 나누고 시작 시 칸마다 미리 분류
+ * - 다각형 안에 완전히 포함된 칸 : 바로 true
+ * - 다각형 경계가 지나는 칸 : 해당 다각형만 point-in-polygon 검사
+ * - 그 외 : 바로 false
+ * 검색 요청마다 호출되므로 예외 대신 boolean 반환
+ */
+public class ServiceArea {
+
+    // 격자 한 변 최대 칸 수 (지역 범위가 넓으면 칸 크기를 키워서 맞춤)
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    private final List<Polygon> polygons;
+
+    private final double minLat;
+    private final double minLon;
+    private final double cellSize;
+    private final int rows;
+    private final int cols;
+
+    // 다각형 안에 완전히 포함된 칸
+    private final boolean[] insideCells;
+
+    // 경계가 지나는 칸별 검사할 다각형 번호 (없으면 null)
+    private final int[][] boundaryCandidates;
+
+
+    public ServiceArea(List<Polygon> polygons, double cellSizeDegree) {
+
+        if (polygons.isEmpty()) {
+            throw new IllegalArgumentException("service area polygon is empty");
+        }
+
+        this.polygons = List.copyOf(polygons);
+
+        this.minLat = polygons.stream().mapToDouble(Polygon::getMinLat).min().orElseThrow();
+        this.minLon = polygons.stream().mapToDouble(Polygon::getMinLon).min().orElseThrow();
+        double maxLat = polygons.stream().mapToDouble(Polygon::getMaxLat).max().orElseThrow();
+        double maxLon = polygons.stream().mapToDouble(Polygon::getMaxLon).max().orElseThrow();
+
+        double span = Math.max(maxLat - minLat, maxLon - minLon);
+        this.cellSize = Math.max(cellSizeDegree, span / MAX_CELLS_PER_AXIS);
+
+        this.rows = Math.max(1, (int) Math.ceil((maxLat - minLat) / cellSize));
+        this.cols = Math.max(1, (int) Math.ceil((maxLon - minLon) / cellSize));
+
+        this.insideCells = new boolean[rows * cols];
+        this.boundaryCandidates = new int[rows * cols][];
+
+        for (int i = 0; i < this.polygons.size(); i++) {
+            classifyCells(i, this.polygons.get(i));
+        }
+    }
+
+    /**
+     * 서비스 지역 안의 좌표인지 확인
+     */
+    public boolean contains(Double lat, Double lon) {
+
+        if (lat == null || lon == null || lat.isNaN() || lon.isNaN()) {
+            return false;
+        }
+
+        int row = (int) Math.floor((lat - minLat) / cellSize);
+        int col = (int) Math.floor((lon - minLon) / cellSize);
+
+        // 전체 범위 최대값과 같은 좌표는 마지막 칸으로
+        if (row == rows && lat == minLat + rows * cellSize) row--;
+        if (col == cols && lon == minLon + cols * cellSize) col--;
+
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+
+        int cell = row * cols + col;
+
+        if (insideCells[cell]) {
+            return true;
+        }
+
+        int[] candidates = boundaryCandidates[cell];
+
+        if (candidates == null) {
+            return false;
+        }
+
+        for (int polygonIndex : candidates) {
+            if (polygons.get(polygonIndex).contains(lat, lon)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * 다각형이 걸치는 칸 분류
+     * 변이 지나는 칸은 경계 칸, 나머지는 칸 중심이 다각형 안이면 포함된 칸
+     */
+    private void classifyCells(int polygonIndex, Polygon polygon) {
+
+        int fromRow = rowOf(polygon.getMinLat());
+        int toRow = rowOf(polygon.getMaxLat());
+        int fromCol = colOf(polygon.getMinLon());
+        int toCol = colOf(polygon.getMaxLon());
+
+        boolean[] boundary = new boolean[rows * cols];
+
+        // 변마다 변의 범위에 걸치는 칸만 확인
+        for (int edge = 0; edge < polygon.size(); edge++) {
+
+            double lat1 = polygon.lats[edge];
+            double lon1 = polygon.lons[edge];
+            double lat2 = polygon.lats[(edge + 1) % polygon.size()];
+            double lon2 = polygon.lons[(edge + 1) % polygon.size()];
+
+            for (int row = rowOf(Math.min(lat1, lat2)); row <= rowOf(Math.max(lat1, lat2)); row++) {
+                for (int col = colOf(Math.min(lon1, lon2)); col <= colOf(Math.max(lon1, lon2)); col++) {
+
+                    int cell = row * cols + col;
+
+                    if (!boundary[cell] && segmentIntersectsCell(lat1, lon1, lat2, lon2, row, col)) {
+                        boundary[cell] = true;
+                        addCandidate(cell, polygonIndex);
+                    }
+                }
+            }
+        }
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+
+                int cell = row * cols + col;
+
+                if (!boundary[cell] && polygon.contains(
+                        minLat + (row + 0.5) * cellSize, minLon + (col + 0.5) * cellSize)) {
+                    insideCells[cell] = true;
+                }
+            }
+        }
+    }
+
+    private void addCandidate(int cell, int polygonIndex) {
+
+        int[] candidates = boundaryCandidates[cell];
+
+        if (candidates == null) {
+            boundaryCandidates[cell] = new int[]{polygonIndex};
+            return;
+        }
+
+        int[] extended = Arrays.copyOf(candidates, candidates.length + 1);
+        extended[candidates.length] = polygonIndex;
+        boundaryCandidates[cell] = extended;
+    }
+
+    /**
+     * 선분이 칸(사각형)과 겹치는지 확인
+     * 끝점이 칸 안에 있거나 칸의 네 변 중 하나와 교차하면 겹침
+     */
+    private boolean segmentIntersectsCell(
+            double lat1, double lon1, double lat2, double lon2, int row, int col
+    ) {
+
+        double bottom = minLat + row * cellSize;
+        double top = bottom + cellSize;
+        double left = minLon + col * cellSize;
+        double right = left + cellSize;
+
+        if (insideRect(lat1, lon1, bottom, top, left, right)
+                || insideRect(lat2, lon2, bottom, top, left, right)) {
+            return true;
+        }
+
+        return segmentsIntersect(lat1, lon1, lat2, lon2, bottom, left, bottom, right)
+                || segmentsIntersect(lat1, lon1, lat2, lon2, top, left, top, right)
+                || segmentsIntersect(lat1, lon1, lat2, lon2, bottom, left, top, left)
+                || segmentsIntersect(lat1, lon1, lat2, lon2, bottom, right, top, right);
+    }
+
+    private static boolean insideRect(
+            double lat, double lon, double bottom, double top, double left, double right
+    ) {
+        return lat >= bottom && lat <= top && lon >= left && lon <= right;
+    }
+
+    private static boolean segmentsIntersect(
+            double aLat, double aLon, double bLat, double bLon,
+            double cLat, double cLon, double dLat, double dLon
+    ) {
+
+        double d1 = orientation(cLat, cLon, dLat, dLon, aLat, aLon);
+        double d2 = orientation(cLat, cLon, dLat, dLon, bLat, bLon);
+        double d3 = orientation(aLat, aLon, bLat, bLon, cLat, cLon);
+        double d4 = orientation(aLat, aLon, bLat, bLon, dLat, dLon);
+
+        if (((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0))
+                && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0))) {
+            return true;
+        }
+
+        // 한 점이 다른 선분 위에 있는 경우
+        return (d1 == 0 && onSegment(cLat, cLon, dLat, dLon, aLat, aLon))
+                || (d2 == 0 && onSegment(cLat, cLon, dLat, dLon, bLat, bLon))
+                || (d3 == 0 && onSegment(aLat, aLon, bLat, bLon, cLat, cLon))
+                || (d4 == 0 && onSegment(aLat, aLon, bLat, bLon, dLat, dLon));
+    }
+
+    private static double orientation(
+            double aLat, double aLon, double bLat, double bLon, double pLat, double pLon
+    ) {
+        return (bLon - aLon) * (pLat - aLat) - (bLat - aLat) * (pLon - aLon);
+    }
+
+    private static boolean onSegment(
+            double aLat, double aLon, double bLat, double bLon, double pLat, double pLon
+    ) {
+        return pLat >= Math.min(aLat, bLat) && pLat <= Math.max(aLat, bLat)
+                && pLon >= Math.min(aLon, bLon) && pLon <= Math.max(aLon, bLon);
+    }
+
+    private int rowOf(double lat) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((lat - minLat) / cellSize)));
+    }
+
+    private int colOf(double lon) {
+        return Math.min(cols - 1, Math.max(0, (int) Math.floor((lon - minLon) / cellSize)));
+    }
+
+
+    /**
+     * 서비스 지역 다각형 (꼭짓점 순서대로, 마지막 점은 첫 점과 연결)
+     */
+    @Getter
+    public static class Polygon {
+
+        private final String name;
+
+        @Getter(AccessLevel.NONE)
+        private final double[] lats;
+        @Getter(AccessLevel.NONE)
+        private final double[] lons;
+
+        private final double minLat;
+        private final double maxLat;
+        private final double minLon;
+        private final double maxLon;
+
+        public Polygon(String name, double[] lats, double[] lons) {
+
+            if (lats.length < 3 || lats.length != lons.length) {
+                throw new IllegalArgumentException("invalid service area polygon : " + name);
+            }
+
+            this.name = name;
+            this.lats = lats.clone();
+            this.lons = lons.clone();
+
+            this.minLat = Arrays.stream(lats).min().orElseThrow();
+            this.maxLat = Arrays.stream(lats).max().orElseThrow();
+            this.minLon = Arrays.stream(lons).min().orElseThrow();
+            this.maxLon = Arrays.stream(lons).max().orElseThrow();
+        }
+
+        public int size() {
+            return lats.length;
+        }
+
+        /**
+         * ray casting : 좌표에서 경도 방향으로 그은 선이 변과 홀수 번 만나면 안쪽
+         */
+        public boolean contains(double lat, double lon) {
+
+            if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+                return false;
+            }
+
+            boolean inside = false;
+
+            for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+
+                boolean crosses = (lats[i] > lat) != (lats[j] > lat)
+                        && lon < (lons[j] - lons[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lons[i];
+
+                if (crosses) {
+                    inside = !inside;
+                }
+            }
+
+            return inside;
+        }
+    }
+}
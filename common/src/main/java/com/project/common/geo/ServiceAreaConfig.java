@@ -0,0 +1,43 @@
+package com.project.common.geo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 서비스 지역 다각형 설정
+ * service-area.areas 없으면 기존 국내 범위(위도 32 ~ 40, 경도 123 ~ 131) 사용
+ */
+@Configuration
+public class ServiceAreaConfig {
+
+    @Bean
+    @ConfigurationProperties("service-area")
+    public ServiceAreaProperties serviceAreaProperties() {
+        return new ServiceAreaProperties();
+    }
+
+    @Bean
+    public ServiceArea serviceArea(ServiceAreaProperties properties) {
+
+        List<ServiceArea.Polygon> polygons = properties.getAreas().stream()
+                .map(area -> new ServiceArea.Polygon(
+                        area.getName(),
+                        area.getPoints().stream().mapToDouble(ServiceAreaProperties.Point::getLat).toArray(),
+                        area.getPoints().stream().mapToDouble(ServiceAreaProperties.Point::getLon).toArray()
+                ))
+                .toList();
+
+        if (polygons.isEmpty()) {
+            polygons = List.of(new ServiceArea.Polygon(
+                    "korea",
+                    new double[]{32, 32, 40, 40},
+                    new double[]{123, 131, 131, 123}
+            ));
+        }
+
+        return new ServiceArea(polygons, properties.getCellSizeDegree());
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.common.geo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스 지역 설정 (service-area.*)
+ * 지역마다 꼭짓점(위도, 경도) 목록으로 다각형 정의
+ */
+@Getter
+@Setter
+public class ServiceAreaProperties {
+
+    // 격자 한 칸 크기 (도), 지역 전체 범위가 넓으면 ServiceArea 에서 자동으로 키움
+    private double cellSizeDegree = 0.1;
+
+    private List<Area> areas = new ArrayList<>();
+
+
+    @Getter
+    @Setter
+    public static class Area {
+
+        private String name;
+
+        private List<Point> points = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Point {
+
+        private double lat;
+
+        private double lon;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.common.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 감싸서 SQL 실행시간, 바인딩 파라미터 로그 (SqlLoggingListener) 남김
+ * sql-monitor.log-enabled 가 false 면 감싸지 않음
+ * replica 라우팅 사용 시 중복 기록되지 않도록 실제 커넥션 풀(primary, replica)만 감쌈
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final long slowQueryMs;
+    private final double sampleRate;
+
+    public DataSourceProxyPostProcessor(
+            @Value("${sql-monitor.log-enabled:true}") boolean enabled,
+            @Value("${sql-monitor.slow-query-ms:300}") long slowQueryMs,
+            @Value("${sql-monitor.sample-rate:0}") double sampleRate
+    ) {
+        this.enabled = enabled;
+        this.slowQueryMs = slowQueryMs;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (!enabled || !(bean instanceof DataSource dataSource) || isWrapper(bean)) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SqlLoggingListener(slowQueryMs, sampleRate))
+                .build();
+    }
+
+    private static boolean isWrapper(Object bean) {
+        return bean instanceof ProxyDataSource
+                || bean instanceof DelegatingDataSource
+                || bean instanceof AbstractRoutingDataSource;
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.common.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * Prometheus 노출, http.server.requests 히스토그램 등은 각 애플리케이션 application.yml (management) 에서 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 요청별 SQL 수 집계하도록 hibernate 에 StatementInspector 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties ->
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
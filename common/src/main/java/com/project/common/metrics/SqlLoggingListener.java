@@ -0,0 +1,81 @@
+package com.project.common.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * show_sql 대신 사용하는 SQL 로그
+ * 느린 쿼리(slowQueryMs 이상)는 모두, 나머지는 sampleRate 비율만큼만 바인딩 파라미터, 실행시간과 함께 기록
+ * 로그 출력은 logback AsyncAppender 에서 처리 (요청 스레드에서 I/O 하지 않음)
+ */
+@Slf4j(topic = "sql")
+public class SqlLoggingListener implements QueryExecutionListener {
+
+    private final long slowQueryMs;
+    private final double sampleRate;
+
+    public SqlLoggingListener(long slowQueryMs, double sampleRate) {
+        this.slowQueryMs = slowQueryMs;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        long elapsedMs = execInfo.getElapsedTime();
+
+        if (elapsedMs >= slowQueryMs) {
+            log.warn("type=slow elapsedMs={} success={} batch={} sql=\"{}\" params={}",
+                    elapsedMs, execInfo.isSuccess(), execInfo.isBatch(),
+                    toSql(queryInfoList), toParams(queryInfoList));
+            return;
+        }
+
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("type=sample elapsedMs={} success={} batch={} sql=\"{}\" params={}",
+                    elapsedMs, execInfo.isSuccess(), execInfo.isBatch(),
+                    toSql(queryInfoList), toParams(queryInfoList));
+        }
+    }
+
+    private static String toSql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * 실행된 파라미터 목록 (batch 인 경우 실행 단위별로 묶음)
+     */
+    private static String toParams(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .map(operations -> operations.stream()
+                        .map(SqlLoggingListener::toValue)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String toValue(ParameterSetOperation operation) {
+
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+
+        // args[0] : 파라미터 위치, args[1] : 값
+        Object[] args = operation.getArgs();
+
+        return args.length > 1 ? String.valueOf(args[1]) : "";
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 처리 중 실행된 SQL 수 집계
+ * SqlStatementMetricsFilter 에서 요청 시작 시 start, 끝나면 finish 호출
+ * 요청 밖(kafka 리스너 등)에서 실행된 SQL 은 집계하지 않음
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<RequestStatements> STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        STATEMENTS.set(new RequestStatements());
+    }
+
+    /**
+     * 집계 종료 후 요청에서 실행된 SQL 정보 반환
+     */
+    public static RequestStatements finish() {
+
+        RequestStatements statements = STATEMENTS.get();
+        STATEMENTS.remove();
+
+        return statements == null ? new RequestStatements() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+
+        RequestStatements statements = STATEMENTS.get();
+
+        if (statements != null) {
+            statements.add(sql);
+        }
+
+        // SQL 은 변경하지 않음
+        return sql;
+    }
+
+
+    /**
+     * 요청 하나에서 실행된 SQL 수
+     * 파라미터는 ? 로 바인딩되므로 같은 select 가 반복되면 N+1 (지연 로딩 반복) 으로 판단
+     */
+    public static class RequestStatements {
+
+        private int total;
+
+        private final Map<String, Integer> selectCounts = new HashMap<>();
+
+        private void add(String sql) {
+
+            total++;
+
+            if (sql.regionMatches(true, 0, "select", 0, "select".length())) {
+                selectCounts.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * 가장 많이 반복된 select 문 (없으면 null)
+         */
+        public Map.Entry<String, Integer> mostRepeatedSelect() {
+            return selectCounts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청별 실행된 SQL 수를 http.server.sql.statements 로 기록
+ * uri 태그는 http.server.requests 와 같이 path 패턴 사용 (/store/{storeId} 등)
+ *
+ * SQL 수가 예산(sql-monitor.budget)을 넘거나 같은 select 가 반복(N+1)되면 경고 로그, 카운터 기록
+ * sql-monitor.fail-on-violation 이 true 면 응답을 버퍼에 담아 두었다가 위반 시 500 응답으로 교체
+ * (컨트롤러가 쓴 응답이 커밋되기 전에 확인해야 하므로 버퍼 사용, 통합 테스트에서 N+1 검출용)
+ */
+@Slf4j
+@Component
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.sql.statements";
+    public static final String BUDGET_EXCEEDED_METRIC_NAME = "http.server.sql.budget.exceeded";
+    public static final String N_PLUS_ONE_METRIC_NAME = "http.server.sql.n_plus_one";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int budget;
+    private final int nPlusOneThreshold;
+    private final boolean failOnViolation;
+
+    public SqlStatementMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql-monitor.budget:20}") int budget,
+            @Value("${sql-monitor.n-plus-one-threshold:5}") int nPlusOneThreshold,
+            @Value("${sql-monitor.fail-on-violation:false}") boolean failOnViolation
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        // 위반 시 응답을 바꿀 수 있도록 컨트롤러 응답은 버퍼에만 기록 (운영에서는 버퍼 사용 안 함)
+        ContentCachingResponseWrapper bufferedResponse =
+                failOnViolation ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementCounter.start();
+        String violation;
+
+        try {
+            filterChain.doFilter(request, bufferedResponse == null ? response : bufferedResponse);
+
+        } finally {
+            SqlStatementCounter.RequestStatements statements = SqlStatementCounter.finish();
+            String uri = uriPattern(request);
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements.getTotal());
+
+            violation = checkViolation(request.getMethod(), uri, statements);
+        }
+
+        if (bufferedResponse == null) {
+            return;
+        }
+
+        // 요청 처리 중 발생한 예외는 덮어쓰지 않도록 정상 처리된 경우에만 응답 교체
+        if (violation != null && !response.isCommitted()) {
+            bufferedResponse.resetBuffer();
+            response.reset();
+            response.sendError(
+                    HttpServletResponse.SC_INTERNAL_SERVER_ERROR, request.getMethod() + " " + violation
+            );
+            return;
+        }
+
+        bufferedResponse.copyBodyToResponse();
+    }
+
+    /**
+     * 예산 초과, N+1 의심 시 경고 로그, 카운터 기록 후 위반 내용 반환 (없으면 null)
+     */
+    private String checkViolation(
+            String method, String uri, SqlStatementCounter.RequestStatements statements
+    ) {
+
+        String violation = null;
+
+        if (statements.getTotal() > budget) {
+
+            log.warn("SQL budget exceeded. {} {} statements={}, budget={}",
+                    method, uri, statements.getTotal(), budget);
+
+            meterRegistry.counter(BUDGET_EXCEEDED_METRIC_NAME, "method", method, "uri", uri)
+                    .increment();
+
+            violation = uri + " : SQL budget exceeded (" + statements.getTotal() + " > " + budget + ")";
+        }
+
+        Map.Entry<String, Integer> repeated = statements.mostRepeatedSelect();
+
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+
+            log.warn("N+1 suspected. {} {} repeated={}, sql={}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+
+            meterRegistry.counter(N_PLUS_ONE_METRIC_NAME, "method", method, "uri", uri)
+                    .increment();
+
+            violation = uri + " : N+1 suspected (" + repeated.getValue() + " x " + repeated.getKey() + ")";
+        }
+
+        return violation;
+    }
+
+    /**
+     * 매핑된 path 패턴 (매핑 안된 요청은 UNKNOWN 으로 묶어서 태그 수 제한)
+     */
+    private static String uriPattern(HttpServletRequest request) {
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -24,6 +25,9 @@ public class PageResponse <T>{
     private final int totalPage;
     private final boolean last;
 
+    // true 면 totalElement, totalPage 는 주기적으로 갱신되는 근사값 (모르면 -1)
+    private final boolean approximateTotal;
+
     public PageResponse(Page<T> page) {
         this.content = page.getContent();
         this.pageNumber = page.getNumber();
@@ -31,9 +35,29 @@ public class PageResponse <T>{
         this.totalElement = page.getTotalElements();
         this.totalPage = page.getTotalPages();
         this.last = page.isLast();
+        this.approximateTotal = false;
     }
 
     public static <T> PageResponse<T> of(Page<T> page) {
         return new PageResponse<>(page);
     }
+
+    /**
+     * count 쿼리 없이 조회한 Slice 결과 (다음 페이지 여부는 정확, 전체 개수는 근사값)
+     * @param approximateTotal 근사 전체 개수, 모르면 음수
+     */
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice, long approximateTotal) {
+
+        boolean knownTotal = approximateTotal >= 0 && slice.getSize() > 0;
+
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .totalElement(knownTotal ? approximateTotal : -1)
+                .totalPage(knownTotal ? (int) Math.ceil((double) approximateTotal / slice.getSize()) : -1)
+                .last(slice.isLast())
+                .approximateTotal(true)
+                .build();
+    }
 }
@@ -6,17 +6,32 @@ import com.project.common.exception.ErrorCode;
 
 public class GeoUtil {
 
-    /* 정상범위
-         위도 (Latitude): 약 33도에서 39도 사이
-         경도 (Longitude): 약 124도에서 132도 사이
-     */
-    public static void isValidLocation(Double lat, Double lon) {
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    // 반경 검색 최대 범위 (km)
+    private static final double MAX_RADIUS_KM = 50;
 
-        boolean isValidLat = lat >= 32 && lat <= 40;
-        boolean isValidLon = lon >= 123 && lon <= 131;
+    /**
+     * 검색 반경 확인 (없으면 반경 제한 없음)
+     */
+    public static void isValidRadius(Double radiusKm) {
 
-        if (!isValidLat || !isValidLon) {
-            throw new CustomException(ErrorCode.GPS_COORDINATE_INVALID);
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM)) {
+            throw new CustomException(ErrorCode.SEARCH_RADIUS_INVALID);
         }
     }
+
+    /**
+     * 두 좌표 간 거리 (km)
+     * StoreQueryRepositoryImpl 거리순 정렬에 사용하는 공식과 동일 -> 메모리 정렬, 화면 표시 거리 모두 이 값 사용
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+
+        double cosValue = Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.cos(Math.toRadians(lon2) - Math.toRadians(lon1))
+                + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2));
+
+        // 부동소수점 오차로 [-1, 1] 범위를 벗어나는 경우 방지
+        return EARTH_RADIUS_KM * Math.acos(Math.min(1.0, Math.max(-1.0, cosValue)));
+    }
 }
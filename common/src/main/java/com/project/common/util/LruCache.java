@@ -0,0 +1,34 @@
+package com.project.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 있는 메모리 캐시
+ * 최대 크기 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> map;
+
+    public LruCache(int maxSize) {
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+}
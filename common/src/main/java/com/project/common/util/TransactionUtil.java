@@ -0,0 +1,28 @@
+package com.project.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 실행, 밖이면 바로 실행
+     * 롤백되면 실행하지 않음 (메모리 캐시, 인덱스에 커밋 안 된 데이터 반영 방지)
+     */
+    public static void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * fail-on-violation 설정 시 N+1 요청이 컨트롤러 응답 대신 500 으로 실패하는지 확인
+ */
+class SqlStatementMetricsFilterTest {
+
+    private static final int N_PLUS_ONE_THRESHOLD = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void nPlusOneRequestFailsWhenFailOnViolation() throws Exception {
+
+        MvcResult result = mockMvc(true)
+                .perform(get("/stores/{count}", N_PLUS_ONE_THRESHOLD))
+                .andExpect(status().isInternalServerError())
+                .andReturn();
+
+        // 컨트롤러가 쓴 응답은 클라이언트로 나가지 않음
+        assertThat(result.getResponse().getContentAsString()).doesNotContain("stores");
+        assertThat(result.getResponse().getErrorMessage())
+                .contains("N+1 suspected")
+                .contains("/stores/{count}");
+
+        assertThat(meterRegistry.counter(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME,
+                "method", "GET", "uri", "/stores/{count}").count()).isEqualTo(1);
+    }
+
+    @Test
+    void requestUnderThresholdKeepsResponse() throws Exception {
+
+        mockMvc(true)
+                .perform(get("/stores/{count}", N_PLUS_ONE_THRESHOLD - 1))
+                .andExpect(status().isOk())
+                .andExpect(content().string("stores " + (N_PLUS_ONE_THRESHOLD - 1)));
+    }
+
+    @Test
+    void nPlusOneRequestOnlyRecordedWithoutFailOnViolation() throws Exception {
+
+        mockMvc(false)
+                .perform(get("/stores/{count}", N_PLUS_ONE_THRESHOLD))
+                .andExpect(status().isOk())
+                .andExpect(content().string("stores " + N_PLUS_ONE_THRESHOLD));
+
+        assertThat(meterRegistry.counter(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME,
+                "method", "GET", "uri", "/stores/{count}").count()).isEqualTo(1);
+    }
+
+
+    private MockMvc mockMvc(boolean failOnViolation) {
+        return MockMvcBuilders.standaloneSetup(new LazyLoadingController())
+                .addFilters(new SqlStatementMetricsFilter(
+                        meterRegistry, 100, N_PLUS_ONE_THRESHOLD, failOnViolation
+                ))
+                .build();
+    }
+
+    /**
+     * 상점 목록 조회 후 상점마다 주인 정보를 지연 로딩하는 상황 재현
+     * (Hibernate 가 실행할 SQL 을 StatementInspector 에 직접 전달)
+     */
+    @RestController
+    static class LazyLoadingController {
+
+        private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+
+        @GetMapping("/stores/{count}")
+        String stores(@PathVariable int count) {
+
+            sqlStatementCounter.inspect("select s.store_id, s.user_id from store_info s");
+
+            for (int i = 0; i < count; i++) {
+                sqlStatementCounter.inspect("select u.user_id, u.user_email from user_info u where u.user_id=?");
+            }
+
+            return "stores " + count;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.project.customerservice.service;
 
 import com.project.customerservice.model.CustomerReservationForm;
+import com.project.domain.response.ReservationAvailabilityResponse;
 import com.project.domain.response.ReservationResponse;
 
+import java.time.LocalDate;
+
 public interface CustomerReservationService {
 
-    ReservationResponse makeReservation(String customerEmail, CustomerReservationForm form);
+    ReservationResponse makeReservation
+            (String customerEmail, CustomerReservationForm form, String idempotencyKey);
+
+    ReservationAvailabilityResponse getAvailability(Long storeId, LocalDate date);
 
 }
@@ -1,15 +1,28 @@
 package com.project.customerservice.service;
 
 import com.project.domain.dto.StoreDto;
+import com.project.domain.dto.StoreSuggestDto;
+import com.project.domain.model.StoreSearchCondition;
 import com.project.domain.model.UserLocation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface CustomerSearchService {
 
     Page<StoreDto> sortByName(Pageable pageable);
     Page<StoreDto> sortByStar(Pageable pageable);
     Page<StoreDto> sortByDistance(UserLocation userLocation, Pageable pageable);
+    Page<StoreDto> sortByPopularity(Pageable pageable);
+    Slice<StoreDto> sliceByName(Pageable pageable);
+    Slice<StoreDto> sliceByStar(Pageable pageable);
+    Slice<StoreDto> sliceByDistance(UserLocation userLocation, Pageable pageable);
+    long approximateStoreCount();
+    Page<StoreDto> search(StoreSearchCondition condition, Pageable pageable);
+    Page<StoreDto> searchByText(String keyword, UserLocation userLocation, Pageable pageable);
+    List<StoreSuggestDto> suggest(String prefix, int size);
 
 
 }
@@ -1,6 +1,7 @@
 package com.project.customerservice.service.impl;
 
 import com.project.common.exception.CustomException;
+import com.project.common.util.LruCache;
 import com.project.customerservice.model.CustomerReservationForm;
 import com.project.customerservice.service.CustomerReservationService;
 import com.project.domain.dto.InitReservationDto;
@@ -8,14 +9,18 @@ import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
 import com.project.domain.repository.StoreRepository;
 import com.project.domain.repository.UserRepository;
+import com.project.domain.response.ReservationAvailabilityResponse;
 import com.project.domain.response.ReservationResponse;
 import com.project.kafkaservice.service.KafkaProducer;
 import com.project.kafkaservice.topic.KafkaTopic;
+import com.project.reservationservice.service.ReservationAvailabilityService;
 import com.project.reservationservice.service.ReservationRegisterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static com.project.common.exception.ErrorCode.*;
@@ -27,18 +32,35 @@ public class CustomerReservationServiceImpl implements CustomerReservationServic
 
 
     private final ReservationRegisterService reservationRegisterService;
+    private final ReservationAvailabilityService reservationAvailabilityService;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final KafkaProducer kafkaProducer;
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+    private static final int RESPONSE_CACHE_SIZE = 10_000;
+
+    // 중복 요청 키별 최초 응답 (kafka 전송 완료 후 저장, 소비 전 재시도에도 같은 응답 반환)
+    private final LruCache<String, ReservationResponse> responseCache =
+            new LruCache<>(RESPONSE_CACHE_SIZE);
+
     @Override
-    public ReservationResponse makeReservation(String customerEmail, CustomerReservationForm form) {
+    public ReservationResponse makeReservation
+            (String customerEmail, CustomerReservationForm form, String idempotencyKey) {
 
         // 고객정보, 상점정보 검증 후 예약서비스 모듈로 넘겨줌
         User findUser = userRepository
                 .findByEmail(customerEmail)
                 .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
+        // 같은 키로 이미 요청된 예약이면 최초 결과 반환
+        String customerKey = toCustomerKey(findUser, idempotencyKey);
+        ReservationResponse originalResponse = findOriginalResponse(customerKey);
+
+        if (originalResponse != null) {
+            return originalResponse;
+        }
+
         Store findStore = storeRepository
                 .findById(form.getStoreId())
                 .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
@@ -59,11 +81,68 @@ public class CustomerReservationServiceImpl implements CustomerReservationServic
                 .storeId(findStore.getId())
                 .reserveDt(form.getReserveDt())
                 .contact(form.getContact())
+                .idempotencyKey(customerKey)
                 .build();
 
-        // kafka를 통해 예약 내역 전송
-        kafkaProducer.produce(KafkaTopic.DO_RESERVATION, initReservationDto);
+        ReservationResponse reservationResponse =
+                ReservationResponse.fromDto(initReservationDto, findStore);
+
+        // kafka를 통해 예약 내역 전송, broker 에 전송된 경우만 응답 캐시
+        // (전송 실패한 요청은 같은 키로 재시도 시 다시 전송)
+        kafkaProducer.produce(KafkaTopic.DO_RESERVATION, initReservationDto)
+                .whenComplete((result, ex) -> {
+                    if (ex == null && customerKey != null) {
+                        responseCache.put(customerKey, reservationResponse);
+                    }
+                });
+
+        return reservationResponse;
+    }
+
+    /**
+     * 예약 전 상점의 날짜별 예약 가능 시간 확인 (예약 서비스 모듈의 비트맵 사용)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReservationAvailabilityResponse getAvailability(Long storeId, LocalDate date) {
+        return ReservationAvailabilityResponse.fromDto(
+                reservationAvailabilityService.getAvailability(storeId, date)
+        );
+    }
+
+    /**
+     * 다른 고객의 키와 겹치지 않도록 고객 id 붙여서 사용 (키 없으면 null)
+     */
+    private String toCustomerKey(User customer, String idempotencyKey) {
+
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return null;
+        }
+
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new CustomException(RESERVATION_IDEMPOTENCY_KEY_INVALID);
+        }
+
+        return customer.getId() + ":" + idempotencyKey;
+    }
+
+    /**
+     * 메모리 캐시 -> 저장된 예약 순으로 최초 응답 조회
+     */
+    private ReservationResponse findOriginalResponse(String customerKey) {
+
+        if (customerKey == null) {
+            return null;
+        }
+
+        ReservationResponse cachedResponse = responseCache.get(customerKey);
+
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
 
-        return ReservationResponse.fromDto(initReservationDto, findStore);
+        return reservationRegisterService.findByIdempotencyKey(customerKey)
+                .map(ReservationResponse::fromDto)
+                .orElse(null);
     }
 }
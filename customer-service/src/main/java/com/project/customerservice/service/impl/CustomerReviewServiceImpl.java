@@ -7,9 +7,13 @@ import com.project.domain.entity.Reservation;
 import com.project.domain.entity.User;
 import com.project.domain.repository.ReservationRepository;
 import com.project.domain.repository.UserRepository;
+import com.project.reservationservice.config.RetryConfig;
 import com.project.reservationservice.service.ReservationRegisterService;
 import com.project.reviewservice.service.ReviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +33,19 @@ public class CustomerReviewServiceImpl implements CustomerReviewService {
     private final ReviewService reviewService;
 
 
+    /**
+     * 리뷰 작성
+     * 같은 예약에 동시 작성으로 버전 충돌 시 다시 조회해서 재시도 (중복 리뷰 방지)
+     */
     @Override
+    @Retryable(
+            retryFor = OptimisticLockingFailureException.class,
+            maxAttempts = RetryConfig.MAX_ATTEMPTS,
+            backoff = @Backoff(
+                    delay = RetryConfig.BACKOFF_DELAY_MS,
+                    maxDelay = RetryConfig.BACKOFF_MAX_DELAY_MS
+            )
+    )
     public ReviewDto createReview(String customerEmail, CreateReviewForm form) {
 
         User findUser = userRepository.findByEmail(customerEmail)
@@ -2,14 +2,19 @@ package com.project.customerservice.service.impl;
 
 import com.project.customerservice.service.CustomerSearchService;
 import com.project.domain.dto.StoreDto;
+import com.project.domain.dto.StoreSuggestDto;
+import com.project.domain.model.StoreSearchCondition;
 import com.project.domain.model.UserLocation;
 import com.project.storeservice.service.StoreSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -35,4 +40,44 @@ public class CustomerSearchServiceImpl implements CustomerSearchService {
     public Page<StoreDto> sortByDistance(UserLocation userLocation, Pageable pageable) {
         return storeSearchService.sortByDistance(userLocation, pageable);
     }
+
+    @Override
+    public Page<StoreDto> sortByPopularity(Pageable pageable) {
+        return storeSearchService.sortByPopularity(pageable);
+    }
+
+    @Override
+    public Slice<StoreDto> sliceByName(Pageable pageable) {
+        return storeSearchService.sliceByName(pageable);
+    }
+
+    @Override
+    public Slice<StoreDto> sliceByStar(Pageable pageable) {
+        return storeSearchService.sliceByStar(pageable);
+    }
+
+    @Override
+    public Slice<StoreDto> sliceByDistance(UserLocation userLocation, Pageable pageable) {
+        return storeSearchService.sliceByDistance(userLocation, pageable);
+    }
+
+    @Override
+    public long approximateStoreCount() {
+        return storeSearchService.approximateStoreCount();
+    }
+
+    @Override
+    public Page<StoreDto> search(StoreSearchCondition condition, Pageable pageable) {
+        return storeSearchService.search(condition, pageable);
+    }
+
+    @Override
+    public Page<StoreDto> searchByText(String keyword, UserLocation userLocation, Pageable pageable) {
+        return storeSearchService.searchByText(keyword, userLocation, pageable);
+    }
+
+    @Override
+    public List<StoreSuggestDto> suggest(String prefix, int size) {
+        return storeSearchService.suggest(prefix, size);
+    }
 }
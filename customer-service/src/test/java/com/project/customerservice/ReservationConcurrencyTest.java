@@ -0,0 +1,458 @@
+package com.project.customerservice;
+
+import com.project.common.cache.StoreCatalogVersion;
+import com.project.common.exception.CustomException;
+import com.project.common.exception.ErrorCode;
+import com.project.common.exception.ExceptionHandlerAdvice;
+import com.project.common.model.ErrorResponse;
+import com.project.common.util.ErrorCodeUtil;
+import com.project.customerservice.model.CustomerReviewForm.CreateReviewForm;
+import com.project.customerservice.service.impl.CustomerReviewServiceImpl;
+import com.project.domain.config.QueryConfig;
+import com.project.domain.dto.InitReservationDto;
+import com.project.domain.entity.Address;
+import com.project.domain.entity.Reservation;
+import com.project.domain.entity.Store;
+import com.project.domain.entity.User;
+import com.project.domain.model.VisitDomainForm;
+import com.project.domain.repository.ReservationRepository;
+import com.project.domain.repository.StoreRepository;
+import com.project.domain.repository.UserRepository;
+import com.project.domain.type.StoreStatus;
+import com.project.domain.type.UserType;
+import com.project.reservationservice.config.RetryConfig;
+import com.project.reservationservice.index.ReservationSlotBitmap;
+import com.project.reservationservice.service.ReservationRegisterService;
+import com.project.reservationservice.service.impl.ReservationRegisterServiceImpl;
+import com.project.reservationservice.service.impl.ReservationVisitServiceImpl;
+import com.project.reviewservice.service.ReviewService;
+import com.project.reviewservice.service.impl.ReviewServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.project.common.exception.ErrorCode.RESERVATION_ALREADY_VISIT;
+import static com.project.common.exception.ErrorCode.RESERVATION_CONCURRENT_UPDATE;
+import static com.project.common.exception.ErrorCode.REVIEW_ALREADY_WRITTEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 예약에 방문 확인, 리뷰 작성이 동시에 들어올 때 낙관적 락 + 재시도 동작 확인
+ * 모든 요청이 예약을 먼저 조회한 뒤 동시에 진행하도록 조회 직후 대기 -> 버전 충돌을 항상 발생시킴
+ */
+@SpringBootTest(
+        classes = ReservationConcurrencyTest.TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:concurrency;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+        }
+)
+class ReservationConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    private static final String CONTACT = "010-1234-5678";
+    private static final String CODE = "ABCD1234";
+
+    @Autowired
+    private ReservationVisitServiceImpl reservationVisitService;
+
+    @Autowired
+    private CustomerReviewServiceImpl customerReviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RetryCounter retryCounter;
+
+    @Autowired
+    private ReservationReadGate readGate;
+
+    private User customer;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+
+        retryCounter.reset();
+
+        String suffix = String.valueOf(System.nanoTime());
+
+        customer = userRepository.save(User.builder()
+                .email("customer" + suffix + "@test.com")
+                .username("customer")
+                .phone(CONTACT)
+                .userType(UserType.CUSTOMER)
+                .registeredDt(LocalDateTime.now())
+                .build());
+
+        User owner = userRepository.save(User.builder()
+                .email("partner" + suffix + "@test.com")
+                .username("partner")
+                .userType(UserType.PARTNER)
+                .registeredDt(LocalDateTime.now())
+                .build());
+
+        store = storeRepository.save(Store.builder()
+                .owner(owner)
+                .name("store")
+                .description("description")
+                .star(0.0)
+                .address(Address.builder().detailAddress("address").zipcode("00000")
+                        .latitude(37.5).longitude(127.0).build())
+                .status(StoreStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    void concurrentVisitsSucceedOnlyOnce() throws Exception {
+
+        Reservation reservation = saveApprovedReservation(false);
+        readGate.await(reservation.getId(), THREADS);
+
+        List<Outcome> outcomes = runConcurrently(() -> reservationVisitService.visit(
+                VisitDomainForm.builder()
+                        .reservationId(reservation.getId())
+                        .contact(CONTACT)
+                        .code(CODE)
+                        .build()
+        ));
+
+        assertThat(outcomes).filteredOn(Outcome::success).hasSize(1);
+
+        // 충돌한 요청은 재시도에서 다시 조회 후 이미 방문한 예약으로 실패
+        assertThat(outcomes).filteredOn(outcome -> !outcome.success())
+                .allMatch(outcome -> outcome.errorCode() == RESERVATION_ALREADY_VISIT);
+        assertThat(retryCounter.optimisticLockErrors()).isEqualTo(THREADS - 1);
+
+        Reservation visited = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(visited.isVisitYn()).isTrue();
+        assertThat(visited.getVersion()).isEqualTo(reservation.getVersion() + 1);
+    }
+
+    @Test
+    void concurrentReviewsAreWrittenOnlyOnce() throws Exception {
+
+        Reservation reservation = saveApprovedReservation(true);
+        readGate.await(reservation.getId(), THREADS);
+
+        List<Outcome> outcomes = runConcurrently(() -> customerReviewService.createReview(
+                customer.getEmail(),
+                CreateReviewForm.builder()
+                        .reservationId(reservation.getId())
+                        .star(5)
+                        .title("title")
+                        .content("content")
+                        .build()
+        ));
+
+        assertThat(outcomes).filteredOn(Outcome::success).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> !outcome.success())
+                .allMatch(outcome -> outcome.errorCode() == REVIEW_ALREADY_WRITTEN);
+        assertThat(retryCounter.optimisticLockErrors()).isEqualTo(THREADS - 1);
+
+        Integer reviewCount = jdbcTemplate.queryForObject(
+                "select count(*) from review where reserv_id = ?", Integer.class, reservation.getId()
+        );
+        assertThat(reviewCount).isEqualTo(1);
+        assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().isReviewYn()).isTrue();
+    }
+
+    @Test
+    void conflictOnEveryAttemptMapsTo409() throws Exception {
+
+        Reservation reservation = saveApprovedReservation(false);
+
+        // 매 시도마다 조회 직후 다른 커넥션에서 버전을 올려서 재시도 모두 충돌
+        readGate.bumpVersionAfterRead(reservation.getId());
+
+        try {
+            assertThatThrownBy(() -> reservationVisitService.visit(
+                    VisitDomainForm.builder()
+                            .reservationId(reservation.getId())
+                            .contact(CONTACT)
+                            .code(CODE)
+                            .build()
+            )).isInstanceOf(OptimisticLockingFailureException.class)
+                    .satisfies(e -> {
+                        ResponseEntity<?> response = new ExceptionHandlerAdvice(new ErrorCodeUtil())
+                                .handleOptimisticLockingException((OptimisticLockingFailureException) e);
+
+                        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                        assertThat(((ErrorResponse) response.getBody()).getErrorCode())
+                                .isEqualTo(RESERVATION_CONCURRENT_UPDATE.name());
+                    });
+
+        } finally {
+            readGate.clear();
+        }
+
+        assertThat(retryCounter.optimisticLockErrors()).isEqualTo(RetryConfig.MAX_ATTEMPTS);
+        assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().isVisitYn()).isFalse();
+    }
+
+
+    private Reservation saveApprovedReservation(boolean visited) {
+
+        Reservation reservation = Reservation.makeReservation(
+                InitReservationDto.builder()
+                        .customerId(customer.getId())
+                        .storeId(store.getId())
+                        .reserveDt(LocalDateTime.now().plusDays(1))
+                        .contact(CONTACT)
+                        .build(),
+                customer, store
+        );
+
+        reservation.setReservationCode(CODE);
+        reservation.approve();
+
+        if (visited) {
+            reservation.visit();
+        }
+
+        return reservationRepository.save(reservation);
+    }
+
+    private List<Outcome> runConcurrently(Callable<?> task) throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+
+            List<Outcome> outcomes = new ArrayList<>();
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    outcomes.add(new Outcome(true, null));
+
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(CustomException.class);
+                    outcomes.add(new Outcome(false, ((CustomException) e.getCause()).getErrorCode()));
+
+                } catch (TimeoutException e) {
+                    throw new AssertionError("request did not finish", e);
+                }
+            }
+
+            return outcomes;
+
+        } finally {
+            executor.shutdownNow();
+            readGate.clear();
+        }
+    }
+
+    private record Outcome(boolean success, ErrorCode errorCode) {
+    }
+
+
+    /**
+     * 예약 조회 직후 동작 제어
+     * - await : 지정한 수의 요청이 모두 첫 조회를 마칠 때까지 대기 (재시도 조회는 대기 안 함)
+     * - bumpVersionAfterRead : 조회할 때마다 다른 커넥션에서 버전 증가 (매번 충돌)
+     */
+    static class ReservationReadGate {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        private final ExecutorService bumpExecutor = Executors.newSingleThreadExecutor();
+
+        private volatile Long targetId;
+        private volatile CountDownLatch latch;
+        private volatile boolean bumpVersion;
+
+        private final Set<Long> waitedThreads = ConcurrentHashMap.newKeySet();
+
+        ReservationReadGate(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        void await(Long reservationId, int parties) {
+            waitedThreads.clear();
+            latch = new CountDownLatch(parties);
+            targetId = reservationId;
+        }
+
+        void bumpVersionAfterRead(Long reservationId) {
+            bumpVersion = true;
+            targetId = reservationId;
+        }
+
+        void clear() {
+            targetId = null;
+            latch = null;
+            bumpVersion = false;
+        }
+
+        void afterRead(Object id) throws Exception {
+
+            if (targetId == null || !targetId.equals(id)) {
+                return;
+            }
+
+            if (bumpVersion) {
+                // 같은 스레드에서 실행하면 현재 트랜잭션에 참여하므로 별도 스레드(커넥션)에서 커밋
+                bumpExecutor.submit(() -> jdbcTemplate.update(
+                        "update reservation set reserv_version = reserv_version + 1 where reserv_id = ?", id
+                )).get(10, TimeUnit.SECONDS);
+                return;
+            }
+
+            CountDownLatch current = latch;
+
+            if (current != null && waitedThreads.add(Thread.currentThread().threadId())) {
+                current.countDown();
+                current.await(10, TimeUnit.SECONDS);
+            }
+        }
+
+        ReservationRepository wrap(ReservationRepository target) {
+            return (ReservationRepository) Proxy.newProxyInstance(
+                    ReservationRepository.class.getClassLoader(),
+                    new Class<?>[]{ReservationRepository.class},
+                    (proxy, method, args) -> {
+                        try {
+                            Object result = method.invoke(target, args);
+
+                            if (method.getName().equals("findById")) {
+                                afterRead(args[0]);
+                            }
+
+                            return result;
+
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+            );
+        }
+    }
+
+    /**
+     * 재시도 advice 에서 낙관적 락 충돌 횟수 기록 (context 의 RetryListener 는 모든 @Retryable 에 적용)
+     */
+    static class RetryCounter implements RetryListener {
+
+        private final AtomicInteger optimisticLockErrors = new AtomicInteger();
+
+        @Override
+        public <T, E extends Throwable> void onError(
+                RetryContext context, RetryCallback<T, E> callback, Throwable throwable
+        ) {
+            if (throwable instanceof OptimisticLockingFailureException) {
+                optimisticLockErrors.incrementAndGet();
+            }
+        }
+
+        int optimisticLockErrors() {
+            return optimisticLockErrors.get();
+        }
+
+        void reset() {
+            optimisticLockErrors.set(0);
+        }
+    }
+
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.project.domain.entity")
+    @EnableJpaRepositories("com.project.domain.repository")
+    @Import({
+            QueryConfig.class, RetryConfig.class, StoreCatalogVersion.class,
+            ReservationSlotBitmap.class, ReservationRegisterServiceImpl.class, ReviewServiceImpl.class
+    })
+    static class TestConfig {
+
+        @Bean
+        ReservationReadGate reservationReadGate(JdbcTemplate jdbcTemplate) {
+            return new ReservationReadGate(jdbcTemplate);
+        }
+
+        @Bean
+        RetryCounter retryCounter() {
+            return new RetryCounter();
+        }
+
+        // 서비스만 조회 직후 대기하는 repository 사용 (테스트 데이터 저장, 검증은 원래 repository)
+        @Bean
+        ReservationVisitServiceImpl reservationVisitService(
+                ReservationRepository reservationRepository,
+                ReservationReadGate readGate,
+                ApplicationEventPublisher eventPublisher
+        ) {
+            return new ReservationVisitServiceImpl(readGate.wrap(reservationRepository), eventPublisher);
+        }
+
+        @Bean
+        CustomerReviewServiceImpl customerReviewService(
+                UserRepository userRepository,
+                ReservationRepository reservationRepository,
+                ReservationRegisterService reservationRegisterService,
+                ReviewService reviewService,
+                ReservationReadGate readGate
+        ) {
+            return new CustomerReviewServiceImpl(
+                    userRepository, readGate.wrap(reservationRepository),
+                    reservationRegisterService, reviewService
+            );
+        }
+    }
+}
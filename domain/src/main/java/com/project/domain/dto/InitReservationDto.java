@@ -18,4 +18,7 @@ public class InitReservationDto {
     private LocalDateTime reserveDt;
     private String contact;
 
+    // 같은 예약 요청 중복 처리 방지 위한 키 (고객 id로 범위 지정)
+    private String idempotencyKey;
+
 }
@@ -0,0 +1,37 @@
+package com.project.domain.dto;
+
+import com.project.domain.type.ReservationSlotStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 상점의 하루 예약 시간표 (시간 칸별 상태)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationAvailabilityDto {
+
+    private final Long storeId;
+
+    private final LocalDate date;
+
+    private final int slotMinutes;
+
+    private final int availableCount;
+
+    private final List<Slot> slots;
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class Slot {
+
+        private final LocalTime startTime;
+
+        private final ReservationSlotStatus status;
+    }
+}
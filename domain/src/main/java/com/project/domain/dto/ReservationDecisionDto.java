@@ -0,0 +1,40 @@
+package com.project.domain.dto;
+
+import com.project.domain.type.ReservationApproveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 예약 일괄 승인/거절의 예약별 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ReservationDecisionDto {
+
+    private Long reservationId;
+
+    private boolean success;
+
+    private ReservationApproveStatus approveStatus;
+
+    // 실패한 경우 ErrorCode 이름
+    private String errorCode;
+
+    public static ReservationDecisionDto success(Long reservationId, ReservationApproveStatus status) {
+        return ReservationDecisionDto.builder()
+                .reservationId(reservationId)
+                .success(true)
+                .approveStatus(status)
+                .build();
+    }
+
+    public static ReservationDecisionDto fail(Long reservationId, String errorCode) {
+        return ReservationDecisionDto.builder()
+                .reservationId(reservationId)
+                .success(false)
+                .errorCode(errorCode)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.domain.dto;
+
+import com.project.domain.type.ReservationApproveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 일괄 승인/거절 시 검증에 필요한 값만 조회하는 projection
+ * 예약 id, 상점 주인 id, 상점 id, 승인 상태, 예약 시간, 입장 가능 시간, 버전 (일괄 update 조건)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationOwnerDto {
+
+    private Long reservationId;
+
+    private Long storeOwnerId;
+
+    private Long storeId;
+
+    private ReservationApproveStatus approveStatus;
+
+    private LocalDateTime reserveDt;
+
+    private LocalDateTime visitAvailDt;
+
+    private long version;
+
+}
@@ -0,0 +1,22 @@
+package com.project.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간표 비트맵 초기 적재용 projection
+ * 예약 id, 상점 id, 예약 시간
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationSlotDto {
+
+    private Long reservationId;
+
+    private Long storeId;
+
+    private LocalDateTime reserveDt;
+
+}
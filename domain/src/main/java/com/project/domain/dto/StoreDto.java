@@ -1,9 +1,9 @@
 package com.project.domain.dto;
 
-import com.project.domain.entity.Reservation;
 import com.project.domain.entity.Review;
 import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
+import com.project.domain.model.StoreDistance;
 import com.project.domain.type.StoreStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,8 +24,6 @@ public class StoreDto {
 //    private Long ownerId;
     private User owner;
 
-    private List<Reservation> reservations = new ArrayList<>();
-
     private String name;
 
     private String description;
@@ -41,13 +39,24 @@ public class StoreDto {
 
     private StoreStatus status;
 
+    // 거리순 조회일 때만 값 있음
+    private Double distanceKm;
 
 
     public static StoreDto fromEntity(Store store) {
+        return builderFrom(store).build();
+    }
+
+    public static StoreDto fromStoreDistance(StoreDistance storeDistance) {
+        return builderFrom(storeDistance.getStore())
+                .distanceKm(storeDistance.getDistanceKm())
+                .build();
+    }
+
+    private static StoreDtoBuilder builderFrom(Store store) {
         return StoreDto.builder()
                 .id(store.getId())
                 .owner(store.getOwner())
-                .reservations(store.getReservations())
                 .name(store.getName())
                 .description(store.getDescription())
                 .star(store.getStar())
@@ -55,8 +64,7 @@ public class StoreDto {
                 .zipcode(store.getAddress().getZipcode())
                 .latitude(store.getAddress().getLatitude())
                 .longitude(store.getAddress().getLongitude())
-                .status(store.getStatus())
-                .build();
+                .status(store.getStatus());
     }
 
 
@@ -0,0 +1,18 @@
+package com.project.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상점 이름 자동완성 항목
+ */
+@Getter
+@AllArgsConstructor
+public class StoreSuggestDto {
+
+    private final Long storeId;
+
+    private final String name;
+
+    private final double star;
+}
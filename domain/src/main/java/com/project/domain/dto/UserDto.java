@@ -1,6 +1,5 @@
 package com.project.domain.dto;
 
-import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
 import com.project.domain.type.UserType;
 import lombok.AllArgsConstructor;
@@ -9,8 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 @AllArgsConstructor
@@ -32,8 +29,6 @@ public class UserDto {
 
     private LocalDateTime registeredDt;
 
-    List<Store> storeList = new ArrayList<>();
-
     public UserDto(String username) {
         this.username = username;
     }
@@ -56,6 +56,15 @@ public class Reservation extends BaseEntity {
     @Column(name = "reserv_review_yn")
     private boolean reviewYn;
 
+    // 중복 예약 요청 방지 위한 키
+    @Column(name = "reserv_idempotency_key", unique = true, length = 100)
+    private String idempotencyKey;
+
+    // 승인/거절, 방문, 리뷰 작성 동시 변경 방지 위한 낙관적 락 버전
+    @Version
+    @Column(name = "reserv_version", nullable = false)
+    private long version;
+
     public static Reservation makeReservation
             (InitReservationDto initReservationDto, User customer, Store store) {
 
@@ -68,6 +77,7 @@ public class Reservation extends BaseEntity {
                 .approveStatus(PENDING)
                 .visitYn(false)
                 .reviewYn(false)
+                .idempotencyKey(initReservationDto.getIdempotencyKey())
                 .build();
     }
 
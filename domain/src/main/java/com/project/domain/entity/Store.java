@@ -7,11 +7,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "STORE_INFO")
+// 통합 검색 조건 (상태 + 별점 / 이름), 반경 검색 시 위도, 경도 범위 조건에 사용
+@Table(indexes = {
+        @Index(name = "idx_store_lat_lon", columnList = "store_lat, store_lon"),
+        @Index(name = "idx_store_avail_star", columnList = "store_avail, store_star"),
+        @Index(name = "idx_store_avail_name", columnList = "store_avail, store_name")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -26,8 +33,7 @@ public class Store extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User owner;
 
-    @OneToMany(mappedBy = "store")
-    private List<Reservation> reservations = new ArrayList<>();
+    // 예약 목록은 엔티티 컬렉션 대신 ReservationRepository 페이징 조회 사용 (findAllByStore)
 
     @Column(name = "store_name")
     private String name;
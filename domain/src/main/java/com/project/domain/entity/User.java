@@ -7,12 +7,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.List;
 
 @Entity(name = "USER_INFO")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")     // findByEmail 캐시
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -23,6 +29,7 @@ public class User extends BaseEntity {
     @Column(name = "user_id")
     private Long id;
 
+    @NaturalId
     @Column(name = "user_email", unique = true)
     private String email;
 
@@ -42,14 +49,8 @@ public class User extends BaseEntity {
     @Column(name = "user_reg_dt")
     private LocalDateTime registeredDt;
 
-    // 예약 리스트
-    @OneToMany(mappedBy = "customer")
-    private List<Reservation> reservationList = new ArrayList<>();
-
-
-    // 파트너기능
-    @OneToMany(mappedBy = "owner")
-    private List<Store> storeList = new ArrayList<>();
+    // 예약, 상점 목록은 엔티티 컬렉션 대신 repository 페이징 조회 사용
+    // (ReservationRepository.findAllByCustomer, StoreRepository.findAllByOwner)
 
 
 
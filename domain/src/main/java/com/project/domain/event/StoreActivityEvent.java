@@ -0,0 +1,18 @@
+package com.project.domain.event;
+
+import com.project.domain.type.StoreActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 생성, 방문 확인 시 발행
+ * 상점 인기도 순위에서 커밋 후 반영
+ */
+@Getter
+@AllArgsConstructor
+public class StoreActivityEvent {
+
+    private final Long storeId;
+
+    private final StoreActivityType type;
+}
@@ -0,0 +1,17 @@
+package com.project.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 작성/수정/삭제로 상점 별점이 바뀌었을 때 발행
+ * 별점 기준으로 정렬하는 메모리 색인(자동완성 등)에서 커밋 후 반영
+ */
+@Getter
+@AllArgsConstructor
+public class StoreStarChangedEvent {
+
+    private final Long storeId;
+
+    private final double star;
+}
@@ -0,0 +1,18 @@
+package com.project.domain.model;
+
+import com.project.domain.entity.Store;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거리순 조회 결과 (상점 + 유저와의 거리)
+ * 근사 정렬(APPROXIMATE)일 때 거리는 null -> 서비스에서 표시할 상점만 계산
+ */
+@Getter
+@AllArgsConstructor
+public class StoreDistance {
+
+    private final Store store;
+
+    private final Double distanceKm;
+}
@@ -0,0 +1,49 @@
+package com.project.domain.model;
+
+import com.project.domain.type.DistanceMode;
+import com.project.domain.type.StoreSortType;
+import com.project.domain.type.StoreStatus;
+import lombok.*;
+
+/**
+ * 상점 통합 검색 조건 (모든 조건 선택)
+ * 위치(lat, lon) 있으면 거리 함께 반환, radiusKm 있으면 반경 안의 상점만 조회
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class StoreSearchCondition {
+
+    private StoreStatus status;
+
+    // 최소 별점
+    private Double minStar;
+
+    // 상점 이름 시작 문자열
+    private String namePrefix;
+
+    private Double lat;
+    private Double lon;
+    private Double radiusKm;
+    private DistanceMode mode;
+
+    // 정렬 기준, 없으면 위치 있을 때 거리순, 없을 때 이름순
+    private StoreSortType orderBy;
+
+
+    public boolean hasLocation() {
+        return lat != null && lon != null;
+    }
+
+    public UserLocation toUserLocation() {
+        return hasLocation() ? new UserLocation(lat, lon, radiusKm, mode) : null;
+    }
+
+    public StoreSortType getOrderBy() {
+        if (orderBy != null) {
+            return orderBy;
+        }
+        return hasLocation() ? StoreSortType.DISTANCE : StoreSortType.NAME;
+    }
+}
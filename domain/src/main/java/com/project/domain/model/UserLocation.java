@@ -1,5 +1,6 @@
 package com.project.domain.model;
 
+import com.project.domain.type.DistanceMode;
 import lombok.*;
 
 @Getter
@@ -11,4 +12,14 @@ public class UserLocation {
     private Double lat;
     private Double lon;
 
+    // 검색 반경 (km), 없으면 전체 상점 거리순
+    private Double radiusKm;
+
+    // 거리 계산 방식, 없으면 EXACT
+    private DistanceMode mode;
+
+    public boolean isApproximate() {
+        return mode == DistanceMode.APPROXIMATE;
+    }
+
 }
@@ -1,21 +1,38 @@
 package com.project.domain.repository;
 
+import com.project.domain.dto.ReservationOwnerDto;
+import com.project.domain.dto.ReservationSlotDto;
 import com.project.domain.entity.Reservation;
 import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
+import com.project.domain.type.ReservationApproveStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long>{
 
     void deleteAllByStore(Store store);
 
+    // 상점, 고객별 예약 목록은 엔티티 컬렉션 대신 페이징 조회
+    Page<Reservation> findAllByStore(Store store, Pageable pageable);
+
+    Page<Reservation> findAllByCustomer(User customer, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"store"})
+    Optional<Reservation> findByIdempotencyKey(String idempotencyKey);
+
 
     @Query("select r from Reservation r " +
             "join r.store s " +
@@ -34,13 +51,72 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>{
     );
 
 
-    @Query("select o.id " +
-            " from Reservation r  " +
+    // 예약과 상점 한번에 조회 (상점 주인 id는 store의 FK 값이라 추가 쿼리 없이 확인 가능)
+    @Query("select r from Reservation r " +
+            " join fetch r.store s" +
+            " where r.id = :reservationId")
+    Optional<Reservation> findWithStoreById(@Param("reservationId") Long reservationId);
+
+
+    // 상점 주인, 승인 상태, 입장 가능 시간 조건 만족하는 경우에만 상태 변경 (엔티티 조회 없이 한번의 update)
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r " +
+            " set r.approveStatus = :status, r.updatedAt = :now, r.version = r.version + 1 " +
+            " where r.id = :reservationId" +
+            " and r.approveStatus <> :status" +
+            " and r.visitAvailDt >= :now" +
+            " and r.store.id in " +
+            "(select s.id from STORE_INFO s where s.owner.id = :ownerId)")
+    int updateApproveStatusByOwner(
+            @Param("reservationId") Long reservationId,
+            @Param("ownerId") Long ownerId,
+            @Param("status") ReservationApproveStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+
+    // 예약 일괄 처리 시 소유자, 상태를 한번의 쿼리로 조회
+    @Query("select new com.project.domain.dto.ReservationOwnerDto" +
+            "(r.id, o.id, s.id, r.approveStatus, r.reserveDt, r.visitAvailDt, r.version) " +
+            " from Reservation r " +
             " join r.store s " +
             " join s.owner o" +
-            " where r.id = :reservationId")
-//    @EntityGraph(attributePaths = {"store", "store.owner"})
-    Long findStoreOwnerId(@Param("reservationId") Long reservationId);
+            " where r.id in :reservationIds")
+    List<ReservationOwnerDto> findOwnerStatusByIds(
+            @Param("reservationIds") List<Long> reservationIds
+    );
+
+
+    // 예약 시간표 비트맵 초기 적재 (지정 시간 이후, 거절되지 않은 예약)
+    @Query("select new com.project.domain.dto.ReservationSlotDto" +
+            "(r.id, r.store.id, r.reserveDt) " +
+            " from Reservation r " +
+            " where r.reserveDt >= :from and r.approveStatus <> :excludeStatus")
+    Slice<ReservationSlotDto> findSlotsFrom(
+            @Param("from") LocalDateTime from,
+            @Param("excludeStatus") ReservationApproveStatus excludeStatus,
+            Pageable pageable
+    );
+
+
+    // 예약 상태 일괄 변경
+    // 조회 시점 버전, 상점 주인, 승인 상태, 입장 가능 시간을 다시 확인해서 그 사이 바뀐 예약은 제외
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r " +
+            " set r.approveStatus = :status, r.updatedAt = :now, r.version = r.version + 1 " +
+            " where r.id in :reservationIds" +
+            " and r.version = :version" +
+            " and r.approveStatus <> :status" +
+            " and r.visitAvailDt >= :now" +
+            " and r.store.id in " +
+            "(select s.id from STORE_INFO s where s.owner.id = :ownerId)")
+    int updateApproveStatus(
+            @Param("reservationIds") List<Long> reservationIds,
+            @Param("ownerId") Long ownerId,
+            @Param("status") ReservationApproveStatus status,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
 
 }
 
@@ -1,12 +1,28 @@
 package com.project.domain.repository;
 
-import com.project.domain.entity.Store;
+import com.project.domain.model.StoreDistance;
+import com.project.domain.model.StoreSearchCondition;
+import com.project.domain.model.UserLocation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreQueryRepository {
 
-    Page<Store> findSortByDistance(Pageable pageable, Double lat, Double lon);
+    /**
+     * 거리순 상점 조회, radiusKm 있으면 반경 안의 상점만 조회
+     */
+    Page<StoreDistance> findSortByDistance(Pageable pageable, UserLocation userLocation);
+
+    /**
+     * 거리순 상점 조회 (count 쿼리 없이 다음 페이지 여부만 확인)
+     */
+    Slice<StoreDistance> findSliceByDistance(Pageable pageable, UserLocation userLocation);
+
+    /**
+     * 상태, 최소 별점, 이름 시작 문자열, 반경 조건 조합해서 한번에 조회
+     */
+    Page<StoreDistance> search(StoreSearchCondition condition, Pageable pageable);
 }
@@ -1,9 +1,19 @@
 package com.project.domain.repository;
 
 import com.project.domain.entity.Store;
+import com.project.domain.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
+
+    // 파트너 상점 목록은 엔티티 컬렉션 대신 페이징 조회
+    Page<Store> findAllByOwner(User owner, Pageable pageable);
+
+    // count 쿼리 없이 페이지 크기 + 1 개 조회해서 다음 페이지 여부만 확인
+    Slice<Store> findSliceBy(Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.project.domain.repository;
+
+import com.project.domain.entity.User;
+
+import java.util.Optional;
+
+public interface UserQueryRepository {
+
+    Optional<User> findByEmail(String email);
+}
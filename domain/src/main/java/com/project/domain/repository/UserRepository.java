@@ -4,12 +4,10 @@ import com.project.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserQueryRepository {
 
     boolean existsByEmail(String email);
 
-    Optional<User> findByEmail(String email);
+    // findByEmail 은 UserQueryRepository 에서 natural id 로 조회 (2차 캐시 사용)
 }
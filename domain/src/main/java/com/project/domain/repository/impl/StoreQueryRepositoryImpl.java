@@ -2,17 +2,26 @@ package com.project.domain.repository.impl;
 
 import com.project.domain.entity.QStore;
 import com.project.domain.entity.Store;
+import com.project.domain.model.StoreDistance;
+import com.project.domain.model.StoreSearchCondition;
+import com.project.domain.model.UserLocation;
 import com.project.domain.repository.StoreQueryRepository;
-import com.querydsl.core.types.Order;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -20,40 +29,238 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 
+    // 위도 1도 거리 (km)
+    private static final double KM_PER_LAT_DEGREE = 111.195;
+
+    // select 절 거리 컬럼 별칭 (order by 에서 재사용)
+    private static final NumberPath<Double> DISTANCE_ALIAS =
+            Expressions.numberPath(Double.class, "distance");
+
     // JPAQueryFactory는 QueryConfig에 Bean으로 등록
     private final JPAQueryFactory queryFactory;
 
     /**
      * 유저 위도, 경도 값 받아와서 거리 계산해서 오름차순 정렬
+     * 거리는 select 절에서 한번만 계산하고 별칭으로 정렬
+     * 반경 있으면 store_lat, store_lon 인덱스로 사각 범위 먼저 거른 뒤
+     * 남은 상점만 거리 계산해서 반경 안의 상점만 조회
+     */
+    @Override
+    public Page<StoreDistance> findSortByDistance(Pageable pageable, UserLocation userLocation) {
+
+        QStore store = QStore.store;
+
+        NumberExpression<Double> distance = distance(store, userLocation);
+        BooleanBuilder condition = radiusCondition(store, distance, userLocation);
+
+        List<StoreDistance> content = fetchWithDistance(
+                condition, distance, DISTANCE_ALIAS.asc(), userLocation,
+                pageable.getOffset(), pageable.getPageSize()
+        );
+
+        // Page<StoreDistance> 형태로 반환
+        return PageableExecutionUtils.getPage(content, pageable, countQuery(condition)::fetchOne);
+    }
+
+    /**
+     * 거리순 조회 Slice 버전
+     * 페이지 크기 + 1 개 조회해서 남는 게 있으면 다음 페이지 있음 (count 쿼리 생략)
+     */
+    @Override
+    public Slice<StoreDistance> findSliceByDistance(Pageable pageable, UserLocation userLocation) {
+
+        QStore store = QStore.store;
+
+        NumberExpression<Double> distance = distance(store, userLocation);
+        BooleanBuilder condition = radiusCondition(store, distance, userLocation);
+
+        List<StoreDistance> content = fetchWithDistance(
+                condition, distance, DISTANCE_ALIAS.asc(), userLocation,
+                pageable.getOffset(), pageable.getPageSize() + 1
+        );
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(
+                hasNext ? content.subList(0, pageable.getPageSize()) : content,
+                pageable, hasNext
+        );
+    }
+
+    /**
+     * 통합 검색
+     * 조건은 있는 것만 where 절에 추가 (상태 + 별점 / 이름 조건은 STORE_INFO 복합 인덱스 사용)
+     * 위치 있으면 거리 함께 조회
      */
     @Override
-    public Page<Store> findSortByDistance(Pageable pageable, Double lat, Double lon) {
+    public Page<StoreDistance> search(StoreSearchCondition searchCondition, Pageable pageable) {
 
         QStore store = QStore.store;
 
-        OrderSpecifier<Double> orderSpecifier =
-                new OrderSpecifier<>(Order.ASC,
-                Expressions.numberTemplate(
-                        Double.class,
-                        // 두 좌표 간 거리 구하는 공식
-                        "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({0})) * sin(radians({1})))",
-                        lat, store.address.latitude, lon, store.address.longitude));
+        BooleanBuilder condition = new BooleanBuilder();
+
+        if (searchCondition.getStatus() != null) {
+            condition.and(store.status.eq(searchCondition.getStatus()));
+        }
+
+        if (searchCondition.getMinStar() != null) {
+            condition.and(store.star.goe(searchCondition.getMinStar()));
+        }
+
+        // like 'prefix%' 형태라 인덱스 사용 가능
+        if (StringUtils.hasText(searchCondition.getNamePrefix())) {
+            condition.and(store.name.startsWith(searchCondition.getNamePrefix()));
+        }
+
+        UserLocation userLocation = searchCondition.toUserLocation();
+
+        List<StoreDistance> content;
+
+        if (userLocation == null) {
+            content = fetchStores(condition, orderOf(searchCondition, store), pageable)
+                    .stream()
+                    .map(findStore -> new StoreDistance(findStore, null))
+                    .toList();
 
-        List<Store> resultList =
+        } else {
+            NumberExpression<Double> distance = distance(store, userLocation);
+            condition.and(radiusCondition(store, distance, userLocation));
+
+            content = fetchWithDistance(
+                    condition, distance, orderOf(searchCondition, store), userLocation,
+                    pageable.getOffset(), pageable.getPageSize()
+            );
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery(condition)::fetchOne);
+    }
+
+
+    private List<StoreDistance> fetchWithDistance(
+            BooleanBuilder condition, NumberExpression<Double> distance,
+            OrderSpecifier<?> order, UserLocation userLocation, long offset, long limit
+    ) {
+
+        QStore store = QStore.store;
+
+        List<Tuple> resultList =
                 queryFactory
+                .select(store, distance.as(DISTANCE_ALIAS))
+                .from(store)
+                .where(condition)
+                .orderBy(order)
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+
+        return resultList.stream()
+                .map(tuple -> new StoreDistance(
+                        tuple.get(store),
+                        // 근사값은 km 아니므로 반환하지 않음
+                        userLocation.isApproximate() ? null : tuple.get(DISTANCE_ALIAS)
+                ))
+                .toList();
+    }
+
+    private List<Store> fetchStores(
+            BooleanBuilder condition, OrderSpecifier<?> order, Pageable pageable
+    ) {
+
+        QStore store = QStore.store;
+
+        return queryFactory
                 .selectFrom(store)
-                .orderBy(orderSpecifier)
+                .where(condition)
+                .orderBy(order)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
 
+    private JPAQuery<Long> countQuery(BooleanBuilder condition) {
 
-        JPAQuery<Long> countQuery = queryFactory
+        QStore store = QStore.store;
+
+        return queryFactory
                 .select(store.count())
-                .from(store);
+                .from(store)
+                .where(condition);
+    }
+
+    /**
+     * 통합 검색 정렬 기준
+     */
+    private OrderSpecifier<?> orderOf(StoreSearchCondition searchCondition, QStore store) {
+        return switch (searchCondition.getOrderBy()) {
+            case NAME -> store.name.asc();
+            case STAR -> store.star.desc();       // 별점 높은 순서 대로 정렬
+            case DISTANCE -> DISTANCE_ALIAS.asc();
+        };
+    }
+
+    /**
+     * 근사 모드는 삼각함수 없이 평면 거리(도 단위 제곱)로 계산
+     */
+    private NumberExpression<Double> distance(QStore store, UserLocation userLocation) {
+        return userLocation.isApproximate()
+                ? approximateDistance(store, userLocation.getLat(), userLocation.getLon())
+                : exactDistance(store, userLocation.getLat(), userLocation.getLon());
+    }
+
+    /**
+     * 두 좌표 간 거리 (km)
+     */
+    private NumberExpression<Double> exactDistance(QStore store, Double lat, Double lon) {
+        return Expressions.numberTemplate(
+                Double.class,
+                // 두 좌표 간 거리 구하는 공식 (부동소수점 오차로 acos 인자가 [-1, 1] 범위를 벗어나지 않도록 제한)
+                "6371 * acos(least(1, greatest(-1, cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({0})) * sin(radians({1})))))",
+                lat, store.address.latitude, lon, store.address.longitude);
+    }
+
+    /**
+     * equirectangular 근사 거리 (위도 도 단위 제곱)
+     * 경도 차이에 유저 위도의 cos 값(상수)을 곱해 위도 단위로 맞춤
+     */
+    private NumberExpression<Double> approximateDistance(QStore store, Double lat, Double lon) {
+
+        double lonScale = Math.cos(Math.toRadians(lat));
+
+        NumberExpression<Double> latDiff = store.address.latitude.subtract(lat);
+        NumberExpression<Double> lonDiff = store.address.longitude.subtract(lon).multiply(lonScale);
+
+        return latDiff.multiply(latDiff).add(lonDiff.multiply(lonDiff));
+    }
+
+    /**
+     * 반경 검색 조건
+     * 위도, 경도 사각 범위(인덱스 사용) + 거리 반경 이내
+     */
+    private BooleanBuilder radiusCondition(
+            QStore store, NumberExpression<Double> distance, UserLocation userLocation
+    ) {
+
+        BooleanBuilder condition = new BooleanBuilder();
+
+        Double radiusKm = userLocation.getRadiusKm();
+
+        if (radiusKm == null) {
+            return condition;
+        }
+
+        double lat = userLocation.getLat();
+        double lon = userLocation.getLon();
+
+        double latDelta = radiusKm / KM_PER_LAT_DEGREE;
+        // 경도 1도 거리는 위도가 높을수록 짧아짐
+        double lonDelta = radiusKm / (KM_PER_LAT_DEGREE * Math.cos(Math.toRadians(lat)));
+
+        // 근사 거리는 도 단위 제곱이므로 반경도 같은 단위로 변환
+        double maxDistance = userLocation.isApproximate() ? latDelta * latDelta : radiusKm;
 
-        // Page<Store> 형태로 반환
-        return PageableExecutionUtils.getPage(resultList, pageable, countQuery::fetchOne);
-//       return new PageImpl<>(resultList, pageable, totalCount);
+        return condition
+                .and(store.address.latitude.between(lat - latDelta, lat + latDelta))
+                .and(store.address.longitude.between(lon - lonDelta, lon + lonDelta))
+                .and(distance.loe(maxDistance));
     }
 }
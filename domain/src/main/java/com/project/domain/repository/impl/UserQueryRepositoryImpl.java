@@ -0,0 +1,30 @@
+package com.project.domain.repository.impl;
+
+import com.project.domain.entity.User;
+import com.project.domain.repository.UserQueryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private final EntityManager em;
+
+    /**
+     * 이메일(natural id)로 유저 조회
+     * 쿼리 메서드 대신 natural id 로 조회해서 2차 캐시 (user-natural-id, user 영역) 사용
+     */
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
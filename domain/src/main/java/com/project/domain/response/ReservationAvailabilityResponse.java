@@ -0,0 +1,51 @@
+package com.project.domain.response;
+
+import com.project.domain.dto.ReservationAvailabilityDto;
+import com.project.domain.type.ReservationSlotStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class ReservationAvailabilityResponse {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Long storeId;
+
+    private final LocalDate date;
+
+    private final int slotMinutes;
+
+    private final int availableCount;
+
+    private final List<SlotResponse> slots;
+
+    public static ReservationAvailabilityResponse fromDto(ReservationAvailabilityDto dto) {
+        return ReservationAvailabilityResponse.builder()
+                .storeId(dto.getStoreId())
+                .date(dto.getDate())
+                .slotMinutes(dto.getSlotMinutes())
+                .availableCount(dto.getAvailableCount())
+                .slots(dto.getSlots().stream()
+                        .map(slot -> new SlotResponse(slot.getStartTime().format(TIME_FORMAT), slot.getStatus()))
+                        .toList())
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlotResponse {
+
+        // HH:mm
+        private final String startTime;
+
+        private final ReservationSlotStatus status;
+    }
+}
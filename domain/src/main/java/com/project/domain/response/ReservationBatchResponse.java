@@ -0,0 +1,51 @@
+package com.project.domain.response;
+
+import com.project.domain.dto.ReservationDecisionDto;
+import com.project.domain.type.ReservationApproveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예약 일괄 승인/거절 응답
+ * 요청한 처리, 성공 건수, 예약별 처리 결과 반환
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ReservationBatchResponse {
+
+    private final ReservationApproveStatus decision;
+    private final long successCount;
+    private final List<Result> results;
+
+    public static ReservationBatchResponse fromDtos
+            (ReservationApproveStatus decision, List<ReservationDecisionDto> dtoList) {
+        return ReservationBatchResponse.builder()
+                .decision(decision)
+                .successCount(dtoList.stream().filter(ReservationDecisionDto::isSuccess).count())
+                .results(dtoList.stream().map(Result::fromDto).toList())
+                .build();
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+
+        private final Long reservationId;
+        private final boolean success;
+        private final String errorCode;
+
+        public static Result fromDto(ReservationDecisionDto dto) {
+            return Result.builder()
+                    .reservationId(dto.getReservationId())
+                    .success(dto.isSuccess())
+                    .errorCode(dto.getErrorCode())
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.domain.response;
 
 import com.project.domain.dto.StoreDto;
+import com.project.domain.dto.StoreSuggestDto;
 import com.project.domain.type.StoreStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,6 +48,9 @@ public class StoreResponse {
 
         private final Address address;
 
+        // 거리순 조회일 때만 표시 (km)
+        private final String distanceKm;
+
 
         public static StoreInfoResponse fromDto(StoreDto storeDto) {
             return StoreInfoResponse.builder()
@@ -56,6 +60,9 @@ public class StoreResponse {
                     .star(String.format("%.1f", storeDto.getStar()))
                     .status(storeDto.getStatus())
                     .address(Address.fromDto(storeDto))
+                    // 거리는 소수점 둘째자리까지만 표시
+                    .distanceKm(storeDto.getDistanceKm() == null
+                            ? null : String.format("%.2f", storeDto.getDistanceKm()))
                     .build();
         }
 
@@ -64,6 +71,25 @@ public class StoreResponse {
 
 
 
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class StoreSuggestResponse {
+
+        private final String storeName;
+
+        private final String star;
+
+        public static StoreSuggestResponse fromDto(StoreSuggestDto suggestDto) {
+            return StoreSuggestResponse.builder()
+                    .storeName(suggestDto.getName())
+                    // 별점은 소수점 첫째자리까지만 표시
+                    .star(String.format("%.1f", suggestDto.getStar()))
+                    .build();
+        }
+    }
+
+
     @Data
     @AllArgsConstructor
     @Builder
@@ -0,0 +1,11 @@
+package com.project.domain.type;
+
+import lombok.Getter;
+
+@Getter
+public enum DistanceMode {
+
+    EXACT,          // 구면 거리 공식으로 정렬
+    APPROXIMATE     // 평면 근사(equirectangular)로 정렬, 표시 거리는 GeoUtil.distanceKm 으로 계산 (도시 규모용)
+
+}
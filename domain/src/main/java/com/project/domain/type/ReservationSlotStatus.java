@@ -0,0 +1,12 @@
+package com.project.domain.type;
+
+/**
+ * 예약 시간 칸 상태
+ * AVAILABLE : 예약 가능, OCCUPIED : 다른 예약 있음, CLOSED : 지난 시간 또는 예약 받지 않는 상점
+ */
+public enum ReservationSlotStatus {
+
+    AVAILABLE,
+    OCCUPIED,
+    CLOSED
+}
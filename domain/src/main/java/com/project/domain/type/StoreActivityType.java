@@ -0,0 +1,10 @@
+package com.project.domain.type;
+
+/**
+ * 상점 인기도 계산에 반영하는 활동
+ */
+public enum StoreActivityType {
+
+    RESERVATION,
+    VISIT
+}
@@ -0,0 +1,12 @@
+package com.project.domain.type;
+
+import lombok.Getter;
+
+@Getter
+public enum StoreSortType {
+
+    NAME,       // 이름 순
+    STAR,       // 별점 높은 순
+    DISTANCE    // 거리 순 (위치 정보 필요)
+
+}
@@ -1,9 +1,13 @@
 package com.project.kafkaservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
@@ -17,31 +21,53 @@ import static org.apache.kafka.clients.producer.ProducerConfig.*;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConfig {
 
     public static final String BOOTSTRAP_SERVER_URL = "127.0.0.1:9092";
 
+    // 설정 없으면 기본 주소 사용 (부하 테스트 등에서 embedded broker 주소로 변경)
+    @Value("${spring.kafka.bootstrap-servers:" + BOOTSTRAP_SERVER_URL + "}")
+    private String bootstrapServers;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    private final MeterRegistry meterRegistry;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
 
         Map<String, Object> properties = new HashMap<>();
-        properties.put(BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVER_URL);
+        properties.put(BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         properties.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         properties.put(VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
 
-        return new DefaultKafkaProducerFactory<>(properties);
+        DefaultKafkaProducerFactory<String, String> producerFactory =
+                new DefaultKafkaProducerFactory<>(properties);
+
+        // kafka 클라이언트 메트릭 (kafka.producer.*) 등록
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+
+        return producerFactory;
     }
 
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
 
         Map<String, Object> properties = new HashMap<>();
-        properties.put(BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVER_URL);
+        properties.put(BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         properties.put(GROUP_ID_CONFIG, "reservation-system");
         properties.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         properties.put(VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 
-        return new DefaultKafkaConsumerFactory<>(properties);
+        DefaultKafkaConsumerFactory<String, String> consumerFactory =
+                new DefaultKafkaConsumerFactory<>(properties);
+
+        // kafka 클라이언트 메트릭 등록 (kafka.consumer.fetch.manager.records.lag.max 로 consumer lag 확인)
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        return consumerFactory;
     }
 
     @Bean
@@ -59,6 +85,16 @@ public class KafkaConfig {
 
         kafkaListenerContainerFactory.setConsumerFactory(consumerFactory());
 
+        // 가상 스레드 모드일 경우 리스너도 가상 스레드에서 실행
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor listenerExecutor =
+                    new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+
+            kafkaListenerContainerFactory.getContainerProperties()
+                    .setListenerTaskExecutor(listenerExecutor);
+        }
+
         return kafkaListenerContainerFactory;
     }
 
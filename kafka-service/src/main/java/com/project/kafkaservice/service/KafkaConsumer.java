@@ -3,15 +3,24 @@ package com.project.kafkaservice.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.common.exception.CustomException;
+import com.project.common.util.LruCache;
 import com.project.domain.dto.InitReservationDto;
 import com.project.domain.dto.ReservationDto;
 import com.project.kafkaservice.topic.KafkaTopic;
 import com.project.reservationservice.service.ReservationRegisterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.project.common.exception.ErrorCode.KAFKA_CONSUMING_INVALID;
 
 @Slf4j
@@ -19,30 +28,110 @@ import static com.project.common.exception.ErrorCode.KAFKA_CONSUMING_INVALID;
 @RequiredArgsConstructor
 public class KafkaConsumer {
 
+    // 최근 처리한 예약 요청 키 (메모리에 보관, 넘치면 DB unique 제약으로 중복 방지)
+    private static final int CONSUMED_KEY_CACHE_SIZE = 10_000;
+
+    // 처리 결과 메트릭 태그
+    private static final String RESULT_SUCCESS = "success";
+    private static final String RESULT_DUPLICATE = "duplicate";
+    private static final String RESULT_FAIL = "fail";
+
     private final ObjectMapper mapper;
     private final ReservationRegisterService reservationRegisterService;
+    private final MeterRegistry meterRegistry;
+
+    private final LruCache<String, Long> consumedKeys = new LruCache<>(CONSUMED_KEY_CACHE_SIZE);
 
     @KafkaListener(topics = KafkaTopic.DO_RESERVATION)
-    public void receiptVisitCustomer(String kafkaMessage) {
+    public void receiptVisitCustomer(
+            @Payload String kafkaMessage,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long producedAt
+    ) {
 
-        log.info("Consume init reservation = {}", kafkaMessage);
+        // 메시지 생성부터 소비 시작까지 걸린 시간 (소비 지연)
+        Timer.builder("reservation.kafka.consume.delay")
+                .description("Time from produce to consume start")
+                .tag("topic", KafkaTopic.DO_RESERVATION)
+                .register(meterRegistry)
+                .record(Math.max(0, System.currentTimeMillis() - producedAt), TimeUnit.MILLISECONDS);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = RESULT_FAIL;
 
         try {
-            InitReservationDto initReservationDto =
-                    mapper.readValue(kafkaMessage, InitReservationDto.class);
+            result = initReservation(kafkaMessage);
 
-            ReservationDto reservationDto =
-                    reservationRegisterService.makeReservation(initReservationDto);
+        } finally {
+            sample.stop(Timer.builder("reservation.kafka.consume")
+                    .description("Reservation message processing time")
+                    .tag("topic", KafkaTopic.DO_RESERVATION)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
 
-            log.info(
-                    "Init Reservation. id={}, customerId={}",
-                    reservationDto.getId(), reservationDto.getCustomer().getId()
-                    );
+    /**
+     * 예약 생성 후 처리 결과 반환 (success, duplicate)
+     */
+    private String initReservation(String kafkaMessage) {
 
+        log.info("Consume init reservation = {}", kafkaMessage);
+
+        InitReservationDto initReservationDto;
+
+        try {
+            initReservationDto = mapper.readValue(kafkaMessage, InitReservationDto.class);
 
         } catch (JsonProcessingException e) {
             throw new CustomException(KAFKA_CONSUMING_INVALID);
         }
+
+        String idempotencyKey = initReservationDto.getIdempotencyKey();
+
+        // 이미 처리한 예약 요청이면 무시
+        if (idempotencyKey != null && consumedKeys.containsKey(idempotencyKey)) {
+            log.info("Skip duplicate reservation. idempotencyKey={}", idempotencyKey);
+            return RESULT_DUPLICATE;
+        }
+
+        ReservationDto reservationDto;
+
+        try {
+            reservationDto = reservationRegisterService.makeReservation(initReservationDto);
+
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 요청이 먼저 저장된 경우만 중복 처리, 그 외 제약 위반은 그대로 실패
+            Long savedId = findSavedReservationId(idempotencyKey);
+
+            if (savedId == null) {
+                throw e;
+            }
+
+            consumedKeys.put(idempotencyKey, savedId);
+
+            log.info("Skip duplicate reservation. idempotencyKey={}", idempotencyKey);
+            return RESULT_DUPLICATE;
+        }
+
+        if (idempotencyKey != null) {
+            consumedKeys.put(idempotencyKey, reservationDto.getId());
+        }
+
+        log.info(
+                "Init Reservation. id={}, customerId={}",
+                reservationDto.getId(), reservationDto.getCustomer().getId()
+                );
+
+        return RESULT_SUCCESS;
+    }
+
+    /**
+     * 같은 키로 이미 저장된 예약 아이디 (키 없거나 저장된 예약 없으면 null)
+     */
+    private Long findSavedReservationId(String idempotencyKey) {
+        return reservationRegisterService.findByIdempotencyKey(idempotencyKey)
+                .map(ReservationDto::getId)
+                .orElse(null);
     }
 
 }
@@ -3,11 +3,16 @@ package com.project.kafkaservice.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.common.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.project.common.exception.ErrorCode.KAFKA_PRODUCING_INVALID;
 
 @Slf4j
@@ -17,9 +22,13 @@ public class KafkaProducer {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper mapper;
+    private final MeterRegistry meterRegistry;
 
 
-    public <T> void produce(String topic, T producingDto) {
+    /**
+     * 메시지 전송 (broker 응답 시 완료되는 future 반환, 전송 실패 시 예외로 완료)
+     */
+    public <T> CompletableFuture<SendResult<String, String>> produce(String topic, T producingDto) {
 
         String jsonString = "";
 
@@ -30,8 +39,17 @@ public class KafkaProducer {
             throw new CustomException(KAFKA_PRODUCING_INVALID);
         }
 
-        kafkaTemplate.send(topic, jsonString);
-
+        // broker 응답(ack) 까지 걸린 시간 기록
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return kafkaTemplate.send(topic, jsonString)
+                .whenComplete((result, ex) -> sample.stop(
+                        Timer.builder("reservation.kafka.produce")
+                                .description("Kafka send latency until broker ack")
+                                .tag("topic", topic)
+                                .tag("result", ex == null ? "success" : "fail")
+                                .register(meterRegistry)
+                ));
     }
 
 }
@@ -3,14 +3,12 @@ package com.project.kioskservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @EntityScan("com.project")
 @EnableJpaAuditing
 @EnableJpaRepositories("com.project")
-@EnableFeignClients("com.project")
 @SpringBootApplication(scanBasePackages = "com.project")
 public class KioskApplication {
 
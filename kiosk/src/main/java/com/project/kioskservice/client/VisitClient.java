@@ -7,9 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "visit-service", url = "localhost:8080")
+// 주소는 client.visit-service.url 로 변경 가능 (기본값 localhost:8080)
+@FeignClient(name = VisitClient.CLIENT_NAME, url = "${client.visit-service.url:localhost:8080}")
 public interface VisitClient {
 
+    // feign client, 서킷브레이커, 벌크헤드 설정에 공통으로 사용하는 이름
+    String CLIENT_NAME = "visit-service";
+
     @PostMapping("/reservation/visit")
     ResponseEntity<VisitResponse> visitReservation(@RequestBody VisitDomainForm form);
 }
@@ -0,0 +1,27 @@
+package com.project.kioskservice.config;
+
+import com.project.kioskservice.client.VisitClient;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenFeign 설정
+ * feign-hc5 의존성 추가로 기본 HttpURLConnection 대신 커넥션 풀 사용하는 Apache HttpClient5 사용
+ * 풀 크기, 클라이언트별 connect/read timeout, 서킷브레이커/벌크헤드는 application.yml 에서 설정
+ */
+@EnableFeignClients("com.project")
+@Configuration
+public class OpenFeignConfig {
+
+    /**
+     * 방문 요청용 서킷브레이커
+     * 요청마다 생성하지 않고 클라이언트 이름으로 한번만 생성해 재사용
+     */
+    @Bean
+    public CircuitBreaker visitCircuitBreaker(CircuitBreakerFactory<?, ?> circuitBreakerFactory) {
+        return circuitBreakerFactory.create(VisitClient.CLIENT_NAME);
+    }
+}
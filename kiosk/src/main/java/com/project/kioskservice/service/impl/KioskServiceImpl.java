@@ -9,13 +9,15 @@ import com.project.domain.response.VisitResponse;
 import com.project.kioskservice.client.VisitClient;
 import com.project.kioskservice.model.VisitForm;
 import com.project.kioskservice.service.KioskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
-import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.project.common.exception.ErrorCode.*;
 
@@ -26,9 +28,14 @@ import static com.project.common.exception.ErrorCode.*;
 public class KioskServiceImpl implements KioskService {
 
     private final KioskRepository kioskRepository;
-    private final CircuitBreakerFactory circuitBreakerFactory;
     private final VisitClient visitClient;
 
+    // OpenFeignConfig에 Bean으로 등록 (벌크헤드로 동시 방문 요청 수 제한)
+    private final CircuitBreaker visitCircuitBreaker;
+
+    // feign 호출 시간은 feign-micrometer, 서킷브레이커 상태는 resilience4j-micrometer 에서 자동 기록
+    private final MeterRegistry meterRegistry;
+
     /**
      * 키오스크 등록
      */
@@ -51,9 +58,6 @@ public class KioskServiceImpl implements KioskService {
     @Override
     public VisitResponse visitStore(VisitForm form) {
 
-        CircuitBreaker circuitbreaker =
-                circuitBreakerFactory.create("circuitbreaker");
-
         Kiosk findKiosk = kioskRepository.findById(form.getKioskId())
                 .orElseThrow(() -> new CustomException(KIOSK_NOT_FOUND));
 
@@ -61,11 +65,25 @@ public class KioskServiceImpl implements KioskService {
         validateKioskAvail(findKiosk, form);
 
         // openFeign 통해 reservation-service로 방문 요청 보내 처리
-        // 올바르지 않은 방문일 경우 실패 response 반환
-        return circuitbreaker.run(
+        // 올바르지 않은 방문이거나 동시 요청 한도 초과한 경우 실패 response 반환
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean fallback = new AtomicBoolean();
+
+        VisitResponse visitResponse = visitCircuitBreaker.run(
                 () -> visitClient.visitReservation(form.toDomainForm()).getBody(),
-                throwable -> VisitResponse.fail(form.getContact())
+                throwable -> {
+                    fallback.set(true);
+                    return VisitResponse.fail(form.getContact());
+                }
         );
+
+        // fallback 응답은 200 으로 나가므로 결과 태그로 구분
+        sample.stop(Timer.builder("kiosk.visit")
+                .description("Visit request latency including circuit breaker fallback")
+                .tag("result", fallback.get() ? "fallback" : "success")
+                .register(meterRegistry));
+
+        return visitResponse;
     }
 
     /**
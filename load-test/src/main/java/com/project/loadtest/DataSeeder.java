@@ -0,0 +1,135 @@
+package com.project.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * api 통해 파트너/상점, 고객 생성
+ * 응답에 포함되지 않는 상점 id, 키오스크 id 는 DB 에서 조회
+ */
+@Slf4j
+public class DataSeeder {
+
+    private static final String PASSWORD = "loadtest1234";
+
+    private final LoadTestProperties properties;
+    private final LoadTestClient client;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 시드 데이터가 매번 같도록 고정
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public DataSeeder(LoadTestProperties properties, LoadTestClient client, JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.client = client;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SeedData seed() {
+
+        List<SeedData.Partner> partners = new ArrayList<>();
+
+        for (int i = 0; i < properties.getStores(); i++) {
+            partners.add(seedPartner(i));
+        }
+
+        List<SeedData.Customer> customers = new ArrayList<>();
+
+        for (int i = 0; i < properties.getCustomers(); i++) {
+            String email = "customer" + i + "@loadtest.com";
+            String phone = toPhone(i);
+
+            signUp(email, "c" + i, phone);
+            customers.add(new SeedData.Customer(email, phone, signIn(email)));
+        }
+
+        log.info("Seed complete. stores={}, customers={}", partners.size(), customers.size());
+
+        return new SeedData(
+                customers, partners,
+                customers.stream().collect(
+                        Collectors.toMap(SeedData.Customer::getEmail, Function.identity())
+                )
+        );
+    }
+
+    /**
+     * 회원가입 -> 파트너 가입 -> 다시 로그인(PARTNER 토큰) -> 상점 등록 (키오스크도 같이 등록됨)
+     */
+    private SeedData.Partner seedPartner(int index) {
+
+        String email = "partner" + index + "@loadtest.com";
+
+        signUp(email, "p" + index, toPhone(100_000 + index));
+
+        client.post("seed", properties.apiUrl() + "/partner/" + email + "/enroll",
+                signIn(email), null);
+
+        String token = signIn(email);
+
+        // 서울 시내 임의 위치
+        Map<String, Object> storeForm = Map.of(
+                "name", "store" + index,
+                "description", "load test store " + index,
+                "status", "AVAILABLE",
+                "address", Map.of(
+                        "detailAddress", "load test address " + index,
+                        "zipcode", "04524",
+                        "latitude", random.nextDouble(37.45, 37.65),
+                        "longitude", random.nextDouble(126.85, 127.15)
+                )
+        );
+
+        require(client.post("seed", properties.apiUrl() + "/partner/" + email + "/store",
+                token, storeForm), "add store " + email);
+
+        Long storeId = jdbcTemplate.queryForObject(
+                "select s.store_id from store_info s join user_info u on u.user_id = s.user_id " +
+                        "where u.user_email = ?", Long.class, email);
+
+        Long kioskId = jdbcTemplate.queryForObject(
+                "select kiosk_id from kiosk where store_id = ?", Long.class, storeId);
+
+        return new SeedData.Partner(email, token, storeId, kioskId);
+    }
+
+    private void signUp(String email, String username, String phone) {
+        require(client.post("seed", properties.apiUrl() + "/signup", null, Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "username", username,
+                "phone", phone
+        )), "signup " + email);
+    }
+
+    private String signIn(String email) {
+
+        JsonNode data = require(client.post("seed", properties.apiUrl() + "/signin", null, Map.of(
+                "email", email,
+                "password", PASSWORD
+        )), "signin " + email);
+
+        return data.get("jwt").asText();
+    }
+
+    private static String toPhone(int index) {
+        return String.format("010-%04d-%04d", index / 10_000, index % 10_000);
+    }
+
+    private static JsonNode require(JsonNode data, String action) {
+
+        if (data == null) {
+            throw new IllegalStateException("Seed failed. " + action);
+        }
+
+        return data;
+    }
+}
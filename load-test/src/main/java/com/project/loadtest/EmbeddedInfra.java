@@ -0,0 +1,95 @@
+package com.project.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트용 embedded DB, kafka
+ * api, kiosk 두 프로세스가 같은 DB 를 사용하도록 H2 는 TCP 서버로 띄움
+ * 실행(스레드 모드 비교 시 모드별 실행)마다 새 DB 사용 -> 이전 실행의 시드 데이터와 겹치지 않음
+ */
+@Slf4j
+public class EmbeddedInfra implements AutoCloseable {
+
+    private static final String DB_NAME = "central";
+
+    // 같은 JVM 에서 여러 번 실행할 때 DB 이름 구분용
+    private static final AtomicInteger RUN_SEQUENCE = new AtomicInteger();
+
+    // kafka-service 의 KafkaTopic 과 동일한 토픽
+    private static final String[] TOPICS = {"do_reservation", "add_kiosk", "visit_customer"};
+
+    private final LoadTestProperties properties;
+
+    private final String dbName = DB_NAME + "-" + RUN_SEQUENCE.incrementAndGet();
+
+    private Server dbServer;
+    private EmbeddedKafkaKraftBroker kafkaBroker;
+
+    public EmbeddedInfra(LoadTestProperties properties) {
+        this.properties = properties;
+    }
+
+    public void start() throws SQLException {
+
+        // 원격 접속으로 in-memory DB 생성 허용
+        dbServer = Server.createTcpServer(
+                "-tcpPort", String.valueOf(properties.getDbPort()), "-ifNotExists"
+        ).start();
+
+        log.info("H2 started. url={}", jdbcUrl());
+
+        kafkaBroker = new EmbeddedKafkaKraftBroker(1, 1, TOPICS)
+                .kafkaPorts(properties.getKafkaPort());
+        kafkaBroker.afterPropertiesSet();
+
+        log.info("Kafka started. bootstrapServers={}", bootstrapServers());
+    }
+
+    /**
+     * 운영 DB(MariaDB) 와 최대한 비슷하게 동작하도록 MariaDB 호환 모드 사용
+     */
+    public String jdbcUrl() {
+        return "jdbc:h2:tcp://localhost:" + properties.getDbPort() + "/mem:" + dbName
+                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    public String bootstrapServers() {
+        return kafkaBroker.getBrokersAsString();
+    }
+
+    @Override
+    public void close() {
+
+        if (kafkaBroker != null) {
+            kafkaBroker.destroy();
+        }
+
+        if (dbServer != null) {
+            shutdownDb();
+            dbServer.stop();
+        }
+    }
+
+    /**
+     * DB_CLOSE_DELAY=-1 이라 서버를 멈춰도 in-memory DB 가 남으므로 직접 종료 (메모리 반환)
+     */
+    private void shutdownDb() {
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(), "sa", "");
+             Statement statement = connection.createStatement()) {
+
+            statement.execute("SHUTDOWN");
+
+        } catch (SQLException e) {
+            log.warn("H2 shutdown failed. url={}", jdbcUrl(), e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 응답시간 기록
+ * 워밍업 중에는 기록하지 않음
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointStats> statsMap = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    public void startRecording() {
+        statsMap.clear();
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+
+        if (!recording) {
+            return;
+        }
+
+        statsMap.computeIfAbsent(endpoint, key -> new EndpointStats())
+                .add(elapsedNanos, success);
+    }
+
+    /**
+     * 엔드포인트별 요청 수, 에러 수, 처리량, p50/p99 계산
+     */
+    public List<EndpointReport> report(double elapsedSec) {
+        return statsMap.entrySet().stream()
+                .map(entry -> entry.getValue().toReport(entry.getKey(), elapsedSec))
+                .sorted(Comparator.comparing(EndpointReport::getEndpoint))
+                .toList();
+    }
+
+
+    private static class EndpointStats {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long elapsedNanos, boolean success) {
+
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+
+            latencies[size++] = elapsedNanos;
+
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized EndpointReport toReport(String endpoint, double elapsedSec) {
+
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+
+            return new EndpointReport(
+                    endpoint,
+                    size,
+                    errors.get(),
+                    size / elapsedSec,
+                    toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 99)),
+                    toMillis(size == 0 ? 0 : sorted[size - 1])
+            );
+        }
+
+        // nearest-rank 방식
+        private static long percentile(long[] sorted, int percent) {
+
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class EndpointReport {
+
+        private final String endpoint;
+        private final long count;
+        private final long errors;
+        private final double throughput;     // req/s
+        private final double p50Ms;
+        private final double p99Ms;
+        private final double maxMs;
+    }
+}
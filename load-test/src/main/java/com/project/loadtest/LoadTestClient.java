@@ -0,0 +1,106 @@
+package com.project.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * api, kiosk 호출하면서 엔드포인트별 응답시간 기록
+ * 응답 성공(2xx) 이면 응답의 data 값, 실패하면 null 반환
+ */
+@Slf4j
+public class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final LatencyRecorder recorder;
+
+    public LoadTestClient(HttpClient httpClient, ObjectMapper mapper, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.recorder = recorder;
+    }
+
+    public JsonNode get(String endpoint, String url, String token) {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).GET();
+
+        return send(endpoint, builder, token, Map.of());
+    }
+
+    public JsonNode post(String endpoint, String url, String token, Object body) {
+        return post(endpoint, url, token, body, Map.of());
+    }
+
+    public JsonNode post(
+            String endpoint, String url, String token, Object body, Map<String, String> headers
+    ) {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+
+        return send(endpoint, builder, token, headers);
+    }
+
+    private JsonNode send(
+            String endpoint, HttpRequest.Builder builder, String token, Map<String, String> headers
+    ) {
+
+        builder.timeout(REQUEST_TIMEOUT);
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        headers.forEach(builder::header);
+
+        long start = System.nanoTime();
+
+        try {
+            HttpResponse<String> response =
+                    httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - start, success);
+
+            if (!success) {
+                log.debug("{} failed. status={}, body={}", endpoint, response.statusCode(), response.body());
+                return null;
+            }
+
+            JsonNode body = mapper.readTree(response.body());
+
+            return body.has("data") ? body.get("data") : body;
+
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            log.debug("{} failed. {}", endpoint, e.getMessage());
+            return null;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
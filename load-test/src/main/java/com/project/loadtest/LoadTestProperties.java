@@ -0,0 +1,94 @@
+package com.project.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 부하 테스트 설정값
+ * -Ploadtest.xxx (system property) 로 변경 가능
+ */
+@Getter
+@Builder
+public class LoadTestProperties {
+
+    // 프로세스 실행 classpath (gradle loadTest task 에서 전달)
+    private final String apiClasspath;
+    private final String kioskClasspath;
+
+    private final int apiPort;
+    private final int kioskPort;
+    private final int dbPort;
+    private final int kafkaPort;
+
+    // 시드 데이터 수 (상점은 파트너 한명당 하나씩 등록)
+    private final int stores;
+    private final int customers;
+
+    // 동시 사용자 수, 측정 시간
+    private final int threads;
+    private final int warmupSec;
+    private final int durationSec;
+
+    // full : 검색/예약/승인/방문/리뷰 혼합, search : 검색만 (검색 메모리 사용량 비교용)
+    private final String mix;
+
+    // platform : 기본 스레드, virtual : 가상 스레드 모드 (spring.threads.virtual.enabled)
+    // compare : 두 모드를 차례로 실행해서 거리순 검색, 방문 확인 처리량 / p99 비교
+    private final String threadMode;
+
+    private final String resultsFile;
+
+    public static LoadTestProperties fromSystemProperties() {
+        return LoadTestProperties.builder()
+                .apiClasspath(required("loadtest.api.classpath"))
+                .kioskClasspath(required("loadtest.kiosk.classpath"))
+                .apiPort(intValue("loadtest.apiPort", 18080))
+                .kioskPort(intValue("loadtest.kioskPort", 18081))
+                .dbPort(intValue("loadtest.dbPort", 19092))
+                .kafkaPort(intValue("loadtest.kafkaPort", 19093))
+                .stores(intValue("loadtest.stores", 20))
+                .customers(intValue("loadtest.customers", 200))
+                .threads(intValue("loadtest.threads", 32))
+                .warmupSec(intValue("loadtest.warmupSec", 15))
+                .durationSec(intValue("loadtest.durationSec", 60))
+                .mix(System.getProperty("loadtest.mix", "full"))
+                .threadMode(System.getProperty("loadtest.threadMode", "platform"))
+                .resultsFile(System.getProperty("loadtest.resultsFile", "loadtest-results.json"))
+                .build();
+    }
+
+    public boolean isSearchOnly() {
+        return "search".equals(mix);
+    }
+
+    public boolean isCompareThreadMode() {
+        return "compare".equals(threadMode);
+    }
+
+    public boolean isVirtualThreads() {
+        return "virtual".equals(threadMode);
+    }
+
+    public String apiUrl() {
+        return "http://localhost:" + apiPort;
+    }
+
+    public String kioskUrl() {
+        return "http://localhost:" + kioskPort;
+    }
+
+    private static String required(String key) {
+
+        String value = System.getProperty(key);
+
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(key + " is required (run with ./gradlew :load-test:loadTest)");
+        }
+
+        return value;
+    }
+
+    private static int intValue(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
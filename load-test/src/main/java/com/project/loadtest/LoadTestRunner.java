@@ -0,0 +1,323 @@
+package com.project.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행
+ * 1. embedded H2(MariaDB 모드), embedded kafka 실행
+ * 2. kiosk, api 실행 (DB 스키마 생성 충돌 없도록 순서대로)
+ * 3. 상점, 고객 시드 데이터 생성
+ * 4. 워밍업 후 측정 시간 동안 요청 실행, 엔드포인트별 p50/p99, 처리량 출력 및 JSON 저장
+ * loadtest.threadMode=compare 면 기본 스레드, 가상 스레드 모드로 한 번씩 실행해서 비교
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String API_MAIN_CLASS = "com.project.api.ApiApplication";
+    private static final String KIOSK_MAIN_CLASS = "com.project.kioskservice.KioskApplication";
+
+    private static final String ALLOCATED_BYTES_METRIC = "jvm_gc_memory_allocated_bytes_total";
+
+    // 스레드 모드 비교 대상 엔드포인트 (거리순 검색, 키오스크 방문 확인 -> api /reservation/visit)
+    private static final List<String> THREAD_MODE_ENDPOINTS =
+            List.of("GET /store?sort=dist", "POST /kiosk/visit");
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+
+        Path resultsFile = Path.of(properties.getResultsFile()).toAbsolutePath();
+        Files.createDirectories(resultsFile.getParent());
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        if (!properties.isCompareThreadMode()) {
+
+            Map<String, Object> result =
+                    run(properties, properties.isVirtualThreads(), mapper, httpClient, resultsFile);
+
+            writeResults(result, mapper, resultsFile);
+            return;
+        }
+
+        // 같은 시드, 같은 부하로 기본 스레드 -> 가상 스레드 순서로 실행 (실행마다 embedded DB/kafka 새로 시작)
+        Map<String, Object> platform = run(properties, false, mapper, httpClient, resultsFile);
+        Map<String, Object> virtual = run(properties, true, mapper, httpClient, resultsFile);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("platform", platform);
+        result.put("virtual", virtual);
+        result.put("comparison", compareThreadModes(platform, virtual));
+
+        writeResults(result, mapper, resultsFile);
+    }
+
+    /**
+     * embedded 환경에서 kiosk, api 실행 후 워밍업, 측정 (한 번의 실행 결과 반환)
+     */
+    private static Map<String, Object> run(
+            LoadTestProperties properties, boolean virtualThreads,
+            ObjectMapper mapper, HttpClient httpClient, Path resultsFile
+    ) throws Exception {
+
+        log.info("Run with {} threads", virtualThreads ? "virtual" : "platform");
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        LoadTestClient client = new LoadTestClient(httpClient, mapper, recorder);
+
+        try (EmbeddedInfra infra = new EmbeddedInfra(properties)) {
+
+            infra.start();
+
+            try (ServiceProcess kiosk = ServiceProcess.start(
+                    "kiosk", KIOSK_MAIN_CLASS, properties.getKioskClasspath(), properties.kioskUrl(),
+                    applicationArgs(properties, infra, properties.getKioskPort(), virtualThreads),
+                    resultsFile.getParent())
+            ) {
+                kiosk.awaitReady(httpClient);
+
+                try (ServiceProcess api = ServiceProcess.start(
+                        "api", API_MAIN_CLASS, properties.getApiClasspath(), properties.apiUrl(),
+                        applicationArgs(properties, infra, properties.getApiPort(), virtualThreads),
+                        resultsFile.getParent())
+                ) {
+                    api.awaitReady(httpClient);
+
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                            new DriverManagerDataSource(infra.jdbcUrl(), "sa", "")
+                    );
+
+                    SeedData seedData = new DataSeeder(properties, client, jdbcTemplate).seed();
+                    WorkloadMix workloadMix =
+                            new WorkloadMix(properties, client, jdbcTemplate, seedData);
+
+                    log.info("Warm up {}s", properties.getWarmupSec());
+                    runFor(properties.getWarmupSec(), properties.getThreads(), workloadMix);
+
+                    log.info("Measure {}s with {} threads",
+                            properties.getDurationSec(), properties.getThreads());
+
+                    double allocatedBefore = apiAllocatedBytes(httpClient, properties);
+
+                    recorder.startRecording();
+                    long start = System.nanoTime();
+
+                    runFor(properties.getDurationSec(), properties.getThreads(), workloadMix);
+
+                    recorder.stopRecording();
+                    double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                    double allocatedBytes =
+                            apiAllocatedBytes(httpClient, properties) - allocatedBefore;
+
+                    return report(properties, virtualThreads, recorder.report(elapsedSec), allocatedBytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * 운영 설정(MariaDB, 127.0.0.1:9092, localhost:8080/8081) 대신 embedded 환경 사용하도록 덮어씀
+     */
+    private static List<String> applicationArgs(
+            LoadTestProperties properties, EmbeddedInfra infra, int port, boolean virtualThreads
+    ) {
+        return List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + infra.jdbcUrl(),
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.kafka.bootstrap-servers=" + infra.bootstrapServers(),
+                "--client.visit-service.url=" + properties.apiUrl(),
+                "--client.kiosk-service.url=" + properties.kioskUrl(),
+                "--spring.threads.virtual.enabled=" + virtualThreads
+        );
+    }
+
+    private static void runFor(int seconds, int threads, WorkloadMix workloadMix)
+            throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        workloadMix.runOnce();
+
+                    } catch (RuntimeException e) {
+                        log.debug("Workload failed. {}", e.getMessage());
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * api 프로세스의 누적 힙 할당량 (Prometheus 의 jvm_gc_memory_allocated_bytes_total)
+     * 측정 전후 차이로 요청당 할당량 계산
+     */
+    private static double apiAllocatedBytes(HttpClient httpClient, LoadTestProperties properties)
+            throws IOException, InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(properties.apiUrl() + "/actuator/prometheus")
+        ).GET().build();
+
+        String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+
+        return body.lines()
+                .filter(line -> line.startsWith(ALLOCATED_BYTES_METRIC))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .sum();
+    }
+
+    private static Map<String, Object> report(
+            LoadTestProperties properties, boolean virtualThreads,
+            List<LatencyRecorder.EndpointReport> reports, double allocatedBytes
+    ) {
+
+        long totalRequests = reports.stream()
+                .mapToLong(LatencyRecorder.EndpointReport::getCount)
+                .sum();
+        double allocatedBytesPerRequest = totalRequests == 0 ? 0 : allocatedBytes / totalRequests;
+
+        StringBuilder table = new StringBuilder(String.format(
+                "%n%-50s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"
+        ));
+
+        for (LatencyRecorder.EndpointReport report : reports) {
+            table.append(String.format(
+                    "%-50s %8d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                    report.getEndpoint(), report.getCount(), report.getErrors(),
+                    report.getThroughput(), report.getP50Ms(), report.getP99Ms(), report.getMaxMs()
+            ));
+        }
+
+        table.append(String.format(
+                "api heap allocated : %.1f MB (%.1f KB/request)%n",
+                allocatedBytes / 1024 / 1024, allocatedBytesPerRequest / 1024
+        ));
+
+        log.info(table.toString());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stores", properties.getStores());
+        result.put("customers", properties.getCustomers());
+        result.put("threads", properties.getThreads());
+        result.put("durationSec", properties.getDurationSec());
+        result.put("mix", properties.getMix());
+        result.put("virtualThreads", virtualThreads);
+        result.put("apiAllocatedBytes", allocatedBytes);
+        result.put("apiAllocatedBytesPerRequest", allocatedBytesPerRequest);
+        result.put("endpoints", reports);
+
+        return result;
+    }
+
+    /**
+     * 비교 대상 엔드포인트별 처리량, p99 (가상 스레드 / 기본 스레드 비율)
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> compareThreadModes(
+            Map<String, Object> platform, Map<String, Object> virtual
+    ) {
+
+        Map<String, LatencyRecorder.EndpointReport> platformReports =
+                byEndpoint((List<LatencyRecorder.EndpointReport>) platform.get("endpoints"));
+        Map<String, LatencyRecorder.EndpointReport> virtualReports =
+                byEndpoint((List<LatencyRecorder.EndpointReport>) virtual.get("endpoints"));
+
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        StringBuilder table = new StringBuilder(String.format(
+                "%n%-30s %14s %14s %14s %14s%n",
+                "endpoint", "req/s(plat)", "req/s(virt)", "p99(plat)", "p99(virt)"
+        ));
+
+        for (String endpoint : THREAD_MODE_ENDPOINTS) {
+
+            LatencyRecorder.EndpointReport before = platformReports.get(endpoint);
+            LatencyRecorder.EndpointReport after = virtualReports.get(endpoint);
+
+            // 검색만 실행한 경우 등 한쪽 결과가 없으면 비교 안 함
+            if (before == null || after == null) {
+                continue;
+            }
+
+            Map<String, Object> endpointComparison = new LinkedHashMap<>();
+            endpointComparison.put("platformThroughput", before.getThroughput());
+            endpointComparison.put("virtualThroughput", after.getThroughput());
+            endpointComparison.put("throughputRatio", ratio(after.getThroughput(), before.getThroughput()));
+            endpointComparison.put("platformP99Ms", before.getP99Ms());
+            endpointComparison.put("virtualP99Ms", after.getP99Ms());
+            endpointComparison.put("p99Ratio", ratio(after.getP99Ms(), before.getP99Ms()));
+            comparison.put(endpoint, endpointComparison);
+
+            table.append(String.format(
+                    "%-30s %14.1f %14.1f %14.2f %14.2f%n",
+                    endpoint, before.getThroughput(), after.getThroughput(),
+                    before.getP99Ms(), after.getP99Ms()
+            ));
+        }
+
+        log.info(table.toString());
+
+        return comparison;
+    }
+
+    private static Map<String, LatencyRecorder.EndpointReport> byEndpoint(
+            List<LatencyRecorder.EndpointReport> reports
+    ) {
+        Map<String, LatencyRecorder.EndpointReport> map = new LinkedHashMap<>();
+        reports.forEach(report -> map.put(report.getEndpoint(), report));
+        return map;
+    }
+
+    private static double ratio(double value, double base) {
+        return base == 0 ? 0 : value / base;
+    }
+
+    private static void writeResults(Map<String, Object> result, ObjectMapper mapper, Path resultsFile)
+            throws IOException {
+
+        mapper.writerWithDefaultPrettyPrinter().writeValue(resultsFile.toFile(), result);
+
+        log.info("Results written to {}", resultsFile);
+    }
+}
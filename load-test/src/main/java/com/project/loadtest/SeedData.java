@@ -0,0 +1,38 @@
+package com.project.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시드로 생성한 고객, 상점 정보 (부하 시나리오에서 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class SeedData {
+
+    private final List<Customer> customers;
+    private final List<Partner> partners;
+
+    // 이메일별 고객 (리뷰 작성 시 예약한 고객 토큰 조회용)
+    private final Map<String, Customer> customerByEmail;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Customer {
+        private final String email;
+        private final String phone;
+        private final String token;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Partner {
+        private final String email;
+        private final String token;
+        private final Long storeId;
+        private final Long kioskId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * api, kiosk 애플리케이션을 별도 JVM 으로 실행
+ * 두 애플리케이션 모두 com.project 전체를 스캔하므로 한 JVM 에서 같이 띄우지 않음
+ */
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final String name;
+    private final String baseUrl;
+    private final Process process;
+
+    private ServiceProcess(String name, String baseUrl, Process process) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.process = process;
+    }
+
+    /**
+     * 애플리케이션 실행 (로그는 build/results/loadtest/{name}.log 에 기록)
+     */
+    public static ServiceProcess start(
+            String name, String mainClass, String classpath,
+            String baseUrl, List<String> args, Path logDir
+    ) throws IOException {
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(classpath);
+        command.add(mainClass);
+        command.addAll(args);
+
+        File logFile = logDir.resolve(name + ".log").toFile();
+
+        // 환경변수는 그대로 상속 (스레드 모드는 실행 인자 spring.threads.virtual.enabled 로 지정)
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+
+        log.info("{} starting. log={}", name, logFile);
+
+        return new ServiceProcess(name, baseUrl, process);
+    }
+
+    /**
+     * 요청에 응답할 때까지 대기 (상태코드 상관없이 응답 오면 기동 완료로 판단)
+     */
+    public void awaitReady(HttpClient httpClient) throws InterruptedException {
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+
+        while (System.nanoTime() < deadline) {
+
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited. exitCode=" + process.exitValue());
+            }
+
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                log.info("{} ready. url={}", name, baseUrl);
+                return;
+
+            } catch (IOException e) {
+                Thread.sleep(1000);
+            }
+        }
+
+        throw new IllegalStateException(name + " did not start in " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+    }
+}
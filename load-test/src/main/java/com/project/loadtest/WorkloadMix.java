@@ -0,0 +1,248 @@
+package com.project.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실제 사용 비율과 비슷하게 검색, 예약, 승인, 방문, 리뷰 요청 실행
+ * 승인, 방문, 리뷰는 앞 단계가 끝난 예약이 없으면 검색으로 대신함
+ */
+public class WorkloadMix {
+
+    // 요청 비율 (%)
+    private static final int SEARCH_WEIGHT = 60;
+    private static final int RESERVE_WEIGHT = 20;
+    private static final int APPROVE_WEIGHT = 10;
+    private static final int VISIT_WEIGHT = 5;
+
+    // 예약은 내일부터 3일 안에서 생성
+    private static final int RESERVATION_DAYS = 3;
+
+    // VisitResponse.success 의 result 값
+    private static final String VISIT_ALLOWED = "Entry allowed";
+
+    private static final String[] SORTS = {"name", "star", "dist"};
+
+    private static final DateTimeFormatter RESERVE_DT_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private final LoadTestProperties properties;
+    private final LoadTestClient client;
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedData seedData;
+
+    // 승인된 예약 -> 방문, 방문한 예약 -> 리뷰 순서로 넘김
+    private final Queue<Long> approvedReservations = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> visitedReservations = new ConcurrentLinkedQueue<>();
+
+    public WorkloadMix(
+            LoadTestProperties properties, LoadTestClient client,
+            JdbcTemplate jdbcTemplate, SeedData seedData
+    ) {
+        this.properties = properties;
+        this.client = client;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedData = seedData;
+    }
+
+    public void runOnce() {
+
+        if (properties.isSearchOnly()) {
+            search();
+            return;
+        }
+
+        int value = ThreadLocalRandom.current().nextInt(100);
+
+        boolean done;
+
+        if (value < SEARCH_WEIGHT) {
+            done = false;
+        } else if (value < SEARCH_WEIGHT + RESERVE_WEIGHT) {
+            done = reserve();
+        } else if (value < SEARCH_WEIGHT + RESERVE_WEIGHT + APPROVE_WEIGHT) {
+            done = approve();
+        } else if (value < SEARCH_WEIGHT + RESERVE_WEIGHT + APPROVE_WEIGHT + VISIT_WEIGHT) {
+            done = visit();
+        } else {
+            done = review();
+        }
+
+        if (!done) {
+            search();
+        }
+    }
+
+    private void search() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String sort = SORTS[random.nextInt(SORTS.length)];
+
+        String url = properties.apiUrl() + "/store?sort=" + sort
+                + "&page=" + random.nextInt(3) + "&size=10";
+
+        if (sort.equals("dist")) {
+            url += "&lat=" + random.nextDouble(37.45, 37.65)
+                    + "&lon=" + random.nextDouble(126.85, 127.15);
+        }
+
+        client.get("GET /store?sort=" + sort, url, null);
+    }
+
+    private boolean reserve() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        SeedData.Customer customer = pick(seedData.getCustomers());
+        SeedData.Partner partner = pick(seedData.getPartners());
+
+        String reserveDt = LocalDate.now()
+                .plusDays(random.nextInt(1, RESERVATION_DAYS + 1))
+                .atTime(random.nextInt(9, 22), 0)
+                .format(RESERVE_DT_FORMAT);
+
+        client.post(
+                "POST /customer/{email}/reservation",
+                properties.apiUrl() + "/customer/" + customer.getEmail() + "/reservation",
+                customer.getToken(),
+                Map.of(
+                        "storeId", partner.getStoreId(),
+                        "reserveDt", reserveDt,
+                        "contact", customer.getPhone()
+                ),
+                Map.of("Idempotency-Key", UUID.randomUUID().toString())
+        );
+
+        return true;
+    }
+
+    /**
+     * 타임테이블 조회 후 대기중인 예약 하나 승인
+     */
+    private boolean approve() {
+
+        SeedData.Partner partner = pick(seedData.getPartners());
+
+        LocalDate date = LocalDate.now()
+                .plusDays(ThreadLocalRandom.current().nextInt(1, RESERVATION_DAYS + 1));
+
+        JsonNode data = client.get(
+                "GET /partner/{email}/reservation",
+                properties.apiUrl() + "/partner/" + partner.getEmail() + "/reservation?date=" + date,
+                partner.getToken()
+        );
+
+        if (data == null) {
+            return true;
+        }
+
+        List<Long> pendingIds = new ArrayList<>();
+
+        data.path("timeTable").forEach(hour -> hour.forEach(reservation -> {
+            if ("PENDING".equals(reservation.path("approveStatus").asText())) {
+                pendingIds.add(reservation.get("reservationId").asLong());
+            }
+        }));
+
+        if (pendingIds.isEmpty()) {
+            return true;
+        }
+
+        Long reservationId = pick(pendingIds);
+
+        JsonNode confirmed = client.post(
+                "POST /partner/{email}/reservation/{id}/confirm",
+                properties.apiUrl() + "/partner/" + partner.getEmail()
+                        + "/reservation/" + reservationId + "/confirm",
+                partner.getToken(), null
+        );
+
+        if (confirmed != null) {
+            approvedReservations.add(reservationId);
+        }
+
+        return true;
+    }
+
+    /**
+     * 승인된 예약으로 키오스크 방문 (인증 코드는 고객이 받은 값 대신 DB 에서 조회)
+     */
+    private boolean visit() {
+
+        Long reservationId = approvedReservations.poll();
+
+        if (reservationId == null) {
+            return false;
+        }
+
+        Map<String, Object> reservation = jdbcTemplate.queryForMap(
+                "select r.reserv_contact, r.reserv_code, k.kiosk_id from reservation r " +
+                        "join kiosk k on k.store_id = r.store_id where r.reserv_id = ?",
+                reservationId
+        );
+
+        JsonNode data = client.post(
+                "POST /kiosk/visit",
+                properties.kioskUrl() + "/kiosk/visit",
+                null,
+                Map.of(
+                        "kioskId", reservation.get("kiosk_id"),
+                        "reservationId", reservationId,
+                        "contact", reservation.get("reserv_contact"),
+                        "code", reservation.get("reserv_code")
+                )
+        );
+
+        // 방문 실패 시에도 fallback 응답(Entry denied) 으로 200 반환
+        if (data != null && VISIT_ALLOWED.equals(data.path("result").asText())) {
+            visitedReservations.add(reservationId);
+        }
+
+        return true;
+    }
+
+    private boolean review() {
+
+        Long reservationId = visitedReservations.poll();
+
+        if (reservationId == null) {
+            return false;
+        }
+
+        String email = jdbcTemplate.queryForObject(
+                "select u.user_email from reservation r " +
+                        "join user_info u on u.user_id = r.user_id where r.reserv_id = ?",
+                String.class, reservationId
+        );
+
+        SeedData.Customer customer = seedData.getCustomerByEmail().get(email);
+
+        client.post(
+                "POST /customer/{email}/review",
+                properties.apiUrl() + "/customer/" + email + "/review",
+                customer.getToken(),
+                Map.of(
+                        "reservationId", reservationId,
+                        "star", ThreadLocalRandom.current().nextInt(6),
+                        "title", "load test review",
+                        "content", "load test review " + reservationId
+                )
+        );
+
+        return true;
+    }
+
+    private static <T> T pick(List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.partnerservice.model;
+
+import com.project.domain.type.ReservationApproveStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 예약 일괄 승인/거절 폼
+ * decision은 APPROVE, DECLINE만 가능
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationDecisionForm {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> reservationIds;
+
+    @NotNull
+    private ReservationApproveStatus decision;
+
+}
@@ -1,7 +1,9 @@
 package com.project.partnerservice.service;
 
 
+import com.project.domain.dto.ReservationDecisionDto;
 import com.project.domain.dto.ReservationDto;
+import com.project.partnerservice.model.ReservationDecisionForm;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,4 +16,6 @@ public interface PartnerReservationService {
 
     ReservationDto declineReservation(String partnerEmail, Long reservationId);
 
+    List<ReservationDecisionDto> decideReservations(String partnerEmail, ReservationDecisionForm form);
+
 }
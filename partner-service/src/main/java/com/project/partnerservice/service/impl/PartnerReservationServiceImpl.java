@@ -1,9 +1,11 @@
 package com.project.partnerservice.service.impl;
 
 import com.project.common.exception.CustomException;
+import com.project.domain.dto.ReservationDecisionDto;
 import com.project.domain.dto.ReservationDto;
 import com.project.domain.entity.User;
 import com.project.domain.repository.UserRepository;
+import com.project.partnerservice.model.ReservationDecisionForm;
 import com.project.partnerservice.service.PartnerReservationService;
 import com.project.reservationservice.service.ReservationManagementService;
 import lombok.RequiredArgsConstructor;
@@ -64,6 +66,21 @@ public class PartnerReservationServiceImpl implements PartnerReservationService
                 .declineReservation(findUser.getId(), reservationId);
     }
 
+    /**
+     * 예약 일괄 승인/거절
+     */
+    @Override
+    public List<ReservationDecisionDto> decideReservations
+            (String partnerEmail, ReservationDecisionForm form) {
+
+        User findUser = findUserByEmail(partnerEmail);
+
+        // reservation-service 모듈로 넘겨서 처리
+        return reservationManagementService.decideReservations(
+                findUser.getId(), form.getReservationIds(), form.getDecision()
+        );
+    }
+
 
 
     private User findUserByEmail(String partnerEmail) {
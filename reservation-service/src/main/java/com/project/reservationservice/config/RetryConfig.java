@@ -0,0 +1,18 @@
+package com.project.reservationservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * 예약 상태 변경 시 낙관적 락 충돌 재시도 설정
+ * 재시도 advice가 트랜잭션 advice 바깥에서 동작하므로 재시도마다 새 트랜잭션으로 다시 조회
+ */
+@EnableRetry
+@Configuration
+public class RetryConfig {
+
+    public static final int MAX_ATTEMPTS = 3;
+    // 재시도 간격은 delay ~ maxDelay 사이 랜덤 (동시 요청끼리 다시 충돌하지 않도록)
+    public static final long BACKOFF_DELAY_MS = 50;
+    public static final long BACKOFF_MAX_DELAY_MS = 200;
+}
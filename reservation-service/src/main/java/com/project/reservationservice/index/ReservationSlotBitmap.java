@@ -0,0 +1,190 @@
+package com.project.reservationservice.index;
+
+import com.project.domain.dto.ReservationSlotDto;
+import com.project.domain.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.project.domain.type.ReservationApproveStatus.DECLINE;
+
+/**
+ * 상점별 예약된 시간 칸 비트맵 (예약 가능 시간표 조회용)
+ * 하루를 30분 칸 48개로 나누고 상점, 날짜마다 long 하나의 비트로 예약 있는 칸 표시
+ * -> 시간표 조회는 DB 조회 없이 비트 확인만 하면 됨
+ *
+ * 같은 칸에 예약 여러 개 가능하므로 칸별 예약 id 도 보관 (마지막 예약이 빠질 때 비트 해제)
+ * 예약 생성, 승인(거절 -> 승인 포함) 시 추가하고 거절 시 제거, 같은 예약을 여러 번 반영해도 결과 같음
+ */
+@Slf4j
+@Component
+public class ReservationSlotBitmap {
+
+    public static final int SLOT_MINUTES = 30;
+
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final int LOAD_PAGE_SIZE = 1_000;
+
+    private final ReservationRepository reservationRepository;
+
+    // 상점 아이디 -> 날짜별 예약 칸
+    private final Map<Long, StoreSlots> stores = new ConcurrentHashMap<>();
+
+
+    public ReservationSlotBitmap(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    // Kafka 리스너가 예약을 생성하기 전에 오늘 이후 예약 적재
+    @PostConstruct
+    public void load() {
+
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+
+        PageRequest pageRequest = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("id"));
+        Slice<ReservationSlotDto> slice;
+        int count = 0;
+
+        do {
+            slice = reservationRepository.findSlotsFrom(from, DECLINE, pageRequest);
+
+            for (ReservationSlotDto slot : slice) {
+                book(slot.getStoreId(), slot.getReservationId(), slot.getReserveDt());
+                count++;
+            }
+
+            pageRequest = pageRequest.next();
+
+        } while (slice.hasNext());
+
+        log.info("reservation slot bitmap loaded : {} reservations, {} stores", count, stores.size());
+    }
+
+    /**
+     * 예약 생성, 승인 커밋 후 호출
+     */
+    public void book(Long storeId, Long reservationId, LocalDateTime reserveDt) {
+        stores.computeIfAbsent(storeId, key -> new StoreSlots())
+                .book(reservationId, reserveDt);
+    }
+
+    /**
+     * 예약 거절 커밋 후 호출
+     */
+    public void release(Long storeId, Long reservationId, LocalDateTime reserveDt) {
+
+        StoreSlots storeSlots = stores.get(storeId);
+
+        if (storeSlots != null) {
+            storeSlots.release(reservationId, reserveDt);
+        }
+    }
+
+    /**
+     * 상점 삭제 커밋 후 호출 (상점의 예약도 함께 삭제되므로 칸 정보 전체 제거)
+     */
+    public void removeStore(Long storeId) {
+        stores.remove(storeId);
+    }
+
+    /**
+     * 해당 날짜의 예약 있는 칸 (i 번째 비트 = 0시 기준 i 번째 30분 칸)
+     */
+    public long occupiedSlots(Long storeId, LocalDate date) {
+
+        StoreSlots storeSlots = stores.get(storeId);
+
+        return storeSlots == null ? 0L : storeSlots.occupied(date);
+    }
+
+    public static int slotOf(LocalDateTime dateTime) {
+        return (dateTime.getHour() * 60 + dateTime.getMinute()) / SLOT_MINUTES;
+    }
+
+
+    /**
+     * 상점 하나의 날짜별 예약 칸 (지난 날짜는 변경 시 정리)
+     */
+    private static class StoreSlots {
+
+        private final TreeMap<LocalDate, DaySlots> days = new TreeMap<>();
+
+        synchronized void book(Long reservationId, LocalDateTime reserveDt) {
+
+            days.headMap(LocalDate.now()).clear();
+
+            days.computeIfAbsent(reserveDt.toLocalDate(), key -> new DaySlots())
+                    .book(reservationId, slotOf(reserveDt));
+        }
+
+        synchronized void release(Long reservationId, LocalDateTime reserveDt) {
+
+            days.headMap(LocalDate.now()).clear();
+
+            DaySlots daySlots = days.get(reserveDt.toLocalDate());
+
+            if (daySlots == null) {
+                return;
+            }
+
+            daySlots.release(reservationId);
+
+            if (daySlots.bits == 0L) {
+                days.remove(reserveDt.toLocalDate());
+            }
+        }
+
+        synchronized long occupied(LocalDate date) {
+
+            DaySlots daySlots = days.get(date);
+
+            return daySlots == null ? 0L : daySlots.bits;
+        }
+    }
+
+    private static class DaySlots {
+
+        private long bits;
+
+        // 예약 id -> 칸 번호
+        private final Map<Long, Integer> slotByReservation = new HashMap<>();
+
+        void book(Long reservationId, int slot) {
+
+            Integer previousSlot = slotByReservation.put(reservationId, slot);
+
+            if (previousSlot != null && previousSlot != slot) {
+                clearIfEmpty(previousSlot);
+            }
+
+            bits |= 1L << slot;
+        }
+
+        void release(Long reservationId) {
+
+            Integer slot = slotByReservation.remove(reservationId);
+
+            if (slot != null) {
+                clearIfEmpty(slot);
+            }
+        }
+
+        // 칸에 남은 예약 없으면 비트 해제
+        private void clearIfEmpty(int slot) {
+            if (!slotByReservation.containsValue(slot)) {
+                bits &= ~(1L << slot);
+            }
+        }
+    }
+}
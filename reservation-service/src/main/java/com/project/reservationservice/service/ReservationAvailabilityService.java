@@ -0,0 +1,10 @@
+package com.project.reservationservice.service;
+
+import com.project.domain.dto.ReservationAvailabilityDto;
+
+import java.time.LocalDate;
+
+public interface ReservationAvailabilityService {
+
+    ReservationAvailabilityDto getAvailability(Long storeId, LocalDate date);
+}
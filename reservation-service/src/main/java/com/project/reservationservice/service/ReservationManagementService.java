@@ -1,8 +1,10 @@
 package com.project.reservationservice.service;
 
 
+import com.project.domain.dto.ReservationDecisionDto;
 import com.project.domain.dto.ReservationDto;
 import com.project.domain.entity.User;
+import com.project.domain.type.ReservationApproveStatus;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,4 +17,7 @@ public interface ReservationManagementService {
 
     ReservationDto declineReservation(Long userId, Long reservationId);
 
+    List<ReservationDecisionDto> decideReservations
+            (Long userId, List<Long> reservationIds, ReservationApproveStatus decision);
+
 }
@@ -6,9 +6,13 @@ import com.project.domain.dto.ReservationDto;
 import com.project.domain.entity.Reservation;
 import com.project.domain.entity.User;
 
+import java.util.Optional;
+
 public interface ReservationRegisterService {
 
     ReservationDto makeReservation(InitReservationDto initReservationDto);
 
     void checkAvailWriteReview(User customer, Reservation reservation);
+
+    Optional<ReservationDto> findByIdempotencyKey(String idempotencyKey);
 }
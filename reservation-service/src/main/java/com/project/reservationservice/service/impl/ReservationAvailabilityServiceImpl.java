@@ -0,0 +1,108 @@
+package com.project.reservationservice.service.impl;
+
+import com.project.common.exception.CustomException;
+import com.project.domain.dto.ReservationAvailabilityDto;
+import com.project.domain.dto.ReservationAvailabilityDto.Slot;
+import com.project.domain.entity.Store;
+import com.project.domain.repository.StoreRepository;
+import com.project.domain.type.ReservationSlotStatus;
+import com.project.reservationservice.index.ReservationSlotBitmap;
+import com.project.reservationservice.service.ReservationAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.project.common.exception.ErrorCode.RESERVATION_DATE_INVALID;
+import static com.project.common.exception.ErrorCode.STORE_NOT_FOUND;
+import static com.project.domain.type.ReservationSlotStatus.AVAILABLE;
+import static com.project.domain.type.ReservationSlotStatus.CLOSED;
+import static com.project.domain.type.ReservationSlotStatus.OCCUPIED;
+import static com.project.reservationservice.index.ReservationSlotBitmap.SLOTS_PER_DAY;
+import static com.project.reservationservice.index.ReservationSlotBitmap.SLOT_MINUTES;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReservationAvailabilityServiceImpl implements ReservationAvailabilityService {
+
+    // 하루 전체 칸
+    private static final long ALL_SLOTS = (1L << SLOTS_PER_DAY) - 1;
+
+    // 키오스크 방문 확인이 예약 10분 전까지만 가능하므로 그 이후 시간은 예약 불가
+    private static final int VISIT_CHECK_MINUTES = 10;
+
+    private final StoreRepository storeRepository;
+    private final ReservationSlotBitmap reservationSlotBitmap;
+
+    /**
+     * 상점의 하루 예약 시간표
+     * 예약 있는 칸은 비트맵에서, 지난 칸과 예약 받지 않는 상점은 CLOSED 로 표시 (예약 조회 없음)
+     */
+    @Override
+    public ReservationAvailabilityDto getAvailability(Long storeId, LocalDate date) {
+
+        if (date == null || date.isBefore(LocalDate.now())) {
+            throw new CustomException(RESERVATION_DATE_INVALID);
+        }
+
+        // 상점은 2차 캐시에서 조회
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        long occupied = reservationSlotBitmap.occupiedSlots(storeId, date);
+        long closed = store.isAvail() ? closedSlots(date) : ALL_SLOTS;
+
+        long available = ALL_SLOTS & ~occupied & ~closed;
+
+        List<Slot> slots = new ArrayList<>(SLOTS_PER_DAY);
+
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+            slots.add(new Slot(
+                    LocalTime.MIDNIGHT.plusMinutes((long) i * SLOT_MINUTES),
+                    statusOf(i, closed, occupied)
+            ));
+        }
+
+        return new ReservationAvailabilityDto(
+                storeId, date, SLOT_MINUTES, Long.bitCount(available), slots
+        );
+    }
+
+    /**
+     * 더 이상 예약할 수 없는 칸 (칸 안의 마지막 예약 가능 시각이 지난 칸)
+     */
+    private long closedSlots(LocalDate date) {
+
+        LocalDateTime now = LocalDateTime.now();
+        long closed = 0L;
+
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+
+            LocalDateTime slotEnd = date.atStartOfDay().plusMinutes((long) (i + 1) * SLOT_MINUTES);
+
+            if (!slotEnd.minusMinutes(VISIT_CHECK_MINUTES).isAfter(now)) {
+                closed |= 1L << i;
+            } else {
+                break;
+            }
+        }
+
+        return closed;
+    }
+
+    // 지난 칸은 예약 있어도 CLOSED
+    private ReservationSlotStatus statusOf(int slot, long closed, long occupied) {
+
+        if ((closed >>> slot & 1L) == 1L) {
+            return CLOSED;
+        }
+
+        return (occupied >>> slot & 1L) == 1L ? OCCUPIED : AVAILABLE;
+    }
+}
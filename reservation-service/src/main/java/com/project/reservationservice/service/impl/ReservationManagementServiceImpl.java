@@ -1,21 +1,35 @@
 package com.project.reservationservice.service.impl;
 
 import com.project.common.exception.CustomException;
+import com.project.common.exception.ErrorCode;
+import com.project.common.util.TransactionUtil;
+import com.project.domain.dto.ReservationDecisionDto;
 import com.project.domain.dto.ReservationDto;
+import com.project.domain.dto.ReservationOwnerDto;
 import com.project.domain.entity.Reservation;
 import com.project.domain.entity.User;
 import com.project.domain.repository.ReservationRepository;
+import com.project.domain.type.ReservationApproveStatus;
+import com.project.reservationservice.index.ReservationSlotBitmap;
 import com.project.reservationservice.service.ReservationManagementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.project.common.exception.ErrorCode.*;
 import static com.project.domain.type.ReservationApproveStatus.APPROVE;
 import static com.project.domain.type.ReservationApproveStatus.DECLINE;
+import static com.project.domain.type.ReservationApproveStatus.PENDING;
 
 
 @Service
@@ -24,6 +38,7 @@ import static com.project.domain.type.ReservationApproveStatus.DECLINE;
 public class ReservationManagementServiceImpl implements ReservationManagementService {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotBitmap reservationSlotBitmap;
 
     /**
      * 예약 타임테이블 조회
@@ -49,53 +64,200 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
      */
     @Override
     public ReservationDto confirmReservation(Long userId, Long reservationId) {
+        return changeApproveStatus(userId, reservationId, APPROVE);
+    }
+
+    /**
+     * 예약 거절 기능
+     */
+    @Override
+    public ReservationDto declineReservation(Long userId, Long reservationId) {
+        return changeApproveStatus(userId, reservationId, DECLINE);
+    }
+
+    /**
+     * 예약 일괄 승인/거절 기능
+     * 소유자, 상태 검증은 한번의 조회로 처리하고 검증 통과한 예약만 조건부 update로 변경
+     * update 조건에 조회한 버전, 소유자, 입장 가능 시간을 다시 넣어서 조회 이후 바뀐 예약은 변경하지 않고 실패 처리
+     * @return 예약별 처리 결과
+     */
+    @Override
+    public List<ReservationDecisionDto> decideReservations
+            (Long userId, List<Long> reservationIds, ReservationApproveStatus decision) {
 
-        Reservation findReservation = findReservationById(reservationId);
+        // 승인, 거절 외의 상태로는 변경 불가
+        if (decision == PENDING) {
+            throw new CustomException(RESERVATION_DECISION_INVALID);
+        }
 
-        // 예약한 식당의 소유자가 일치하는지 확인
-        checkStoreOwner(userId, reservationId);
+        List<Long> distinctIds = reservationIds.stream().distinct().toList();
 
-        // 예약이 이미 승인된 경우 검증
-        checkApproveStatus(findReservation);
+        Map<Long, ReservationOwnerDto> ownerStatusMap = findOwnerStatusMap(distinctIds);
 
-        // 입장 가능 시간이 지나서 예약이 만료된 경우 검증
-        checkAvailableEntryTime(findReservation);
+        LocalDateTime now = LocalDateTime.now();
 
-        // 예약 상태를 승인으로 변경
-        findReservation.approve();
+        // 입력 순서대로 결과 반환
+        Map<Long, ReservationDecisionDto> results = new LinkedHashMap<>();
+        List<ReservationOwnerDto> targets = new ArrayList<>();
 
-        return ReservationDto.fromEntity(findReservation);
+        for (Long reservationId : distinctIds) {
+
+            ReservationOwnerDto ownerStatus = ownerStatusMap.get(reservationId);
+            ErrorCode errorCode = validateDecision(userId, decision, ownerStatus, now);
+
+            if (errorCode == null) {
+                targets.add(ownerStatus);
+                results.put(reservationId, ReservationDecisionDto.success(reservationId, decision));
+            } else {
+                results.put(reservationId, ReservationDecisionDto.fail(reservationId, errorCode.name()));
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+
+        // 검증 통과한 예약들 상태 변경 (조회한 버전별로 한번씩, 대부분 한번)
+        Map<Long, List<Long>> idsByVersion = targets.stream()
+                .collect(Collectors.groupingBy(
+                        ReservationOwnerDto::getVersion,
+                        Collectors.mapping(ReservationOwnerDto::getReservationId, Collectors.toList())
+                ));
+
+        int updatedCount = 0;
+
+        for (Map.Entry<Long, List<Long>> entry : idsByVersion.entrySet()) {
+            updatedCount += reservationRepository.updateApproveStatus(
+                    entry.getValue(), userId, decision, entry.getKey(), now
+            );
+        }
+
+        List<ReservationOwnerDto> changed = targets;
+
+        // 조회 이후 다른 요청이 먼저 바꾼 예약이 있으면 다시 조회해서 변경된 예약만 성공 처리
+        if (updatedCount != targets.size()) {
+            changed = findChanged(userId, decision, targets, results, now);
+        }
+
+        // 예약 시간표 비트맵 반영 (커밋 후)
+        List<ReservationOwnerDto> slotTargets = changed;
+
+        TransactionUtil.afterCommit(() -> slotTargets.forEach(ownerStatus -> updateSlot(
+                ownerStatus.getStoreId(), ownerStatus.getReservationId(),
+                ownerStatus.getReserveDt(), decision
+        )));
+
+        return new ArrayList<>(results.values());
     }
 
     /**
-     * 예약 거절 기능
+     * 일괄 update 에서 빠진 예약 확인
+     * 이번 update 로 바뀐 예약은 상태가 decision 이고 버전이 조회 시점보다 1 큼
+     * 나머지는 다시 검증한 실패 사유 (검증은 통과하면 동시 변경) 로 결과 변경
      */
-    @Override
-    public ReservationDto declineReservation(Long userId, Long reservationId) {
-        Reservation findReservation = findReservationById(reservationId);
+    private List<ReservationOwnerDto> findChanged(
+            Long userId, ReservationApproveStatus decision, List<ReservationOwnerDto> targets,
+            Map<Long, ReservationDecisionDto> results, LocalDateTime now
+    ) {
 
-        // 예약한 식당의 소유자가 일치하는지 확인
-        checkStoreOwner(userId, reservationId);
+        Map<Long, ReservationOwnerDto> currentMap = findOwnerStatusMap(
+                targets.stream().map(ReservationOwnerDto::getReservationId).toList()
+        );
 
-        // 예약이 이미 거절된 경우 검증
-        checkDeclineStatus(findReservation);
+        List<ReservationOwnerDto> changed = new ArrayList<>();
 
-        // 입장 가능 시간이 지나서 예약이 만료된 경우 검증
-        checkAvailableEntryTime(findReservation);
+        for (ReservationOwnerDto target : targets) {
 
-        // 예약 상태를 거절으로 변경
-        findReservation.decline();
+            Long reservationId = target.getReservationId();
+            ReservationOwnerDto current = currentMap.get(reservationId);
 
-        return ReservationDto.fromEntity(findReservation);
+            if (current != null
+                    && current.getApproveStatus() == decision
+                    && current.getVersion() == target.getVersion() + 1) {
+                changed.add(target);
+                continue;
+            }
+
+            ErrorCode errorCode = validateDecision(userId, decision, current, now);
+
+            results.put(reservationId, ReservationDecisionDto.fail(
+                    reservationId,
+                    errorCode == null ? RESERVATION_CONCURRENT_UPDATE.name() : errorCode.name()
+            ));
+        }
+
+        return changed;
+    }
+
+    private Map<Long, ReservationOwnerDto> findOwnerStatusMap(List<Long> reservationIds) {
+        return reservationRepository.findOwnerStatusByIds(reservationIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        ReservationOwnerDto::getReservationId, Function.identity()
+                ));
     }
 
 
 
 
+    /**
+     * 예약 승인/거절 공통 로직
+     * 조건부 update 한번으로 상태 변경하고, 변경되지 않은 경우에만 실패 사유 확인
+     */
+    private ReservationDto changeApproveStatus
+            (Long userId, Long reservationId, ReservationApproveStatus status) {
+
+        // 상점 소유자, 승인 상태, 입장 가능 시간 만족하는 경우에만 상태 변경
+        int updatedCount = reservationRepository.updateApproveStatusByOwner(
+                reservationId, userId, status, LocalDateTime.now()
+        );
+
+        // 응답 위해 예약, 상점 한번에 조회 (예약 없으면 에러 발생)
+        Reservation findReservation = findReservationWithStore(reservationId);
+
+        if (updatedCount == 0) {
+
+            // 예약한 식당의 소유자가 일치하는지 확인
+            checkStoreOwner(userId, findReservation);
+
+            // 예약이 이미 승인/거절된 경우 검증
+            if (status == APPROVE) {
+                checkApproveStatus(findReservation);
+            } else {
+                checkDeclineStatus(findReservation);
+            }
+
+            // 입장 가능 시간이 지나서 예약이 만료된 경우 검증
+            checkAvailableEntryTime(findReservation);
+
+            // 검증은 모두 통과 -> update 와 재조회 사이에 다른 변경이 끼어든 경우 (상태 변경 안 됨)
+            throw new CustomException(RESERVATION_CONCURRENT_UPDATE);
 
+        } else {
+            Long storeId = findReservation.getStore().getId();
+            LocalDateTime reserveDt = findReservation.getReserveDt();
 
-    private Reservation findReservationById(Long reservationId) {
-        return reservationRepository.findById(reservationId)
+            TransactionUtil.afterCommit(() -> updateSlot(storeId, reservationId, reserveDt, status));
+        }
+
+        return ReservationDto.fromEntity(findReservation);
+    }
+
+    /**
+     * 예약 시간표 비트맵 반영 (거절은 칸에서 제거, 승인은 거절됐던 예약일 수 있으므로 다시 추가)
+     */
+    private void updateSlot
+            (Long storeId, Long reservationId, LocalDateTime reserveDt, ReservationApproveStatus status) {
+
+        if (status == DECLINE) {
+            reservationSlotBitmap.release(storeId, reservationId, reserveDt);
+        } else {
+            reservationSlotBitmap.book(storeId, reservationId, reserveDt);
+        }
+    }
+
+    private Reservation findReservationWithStore(Long reservationId) {
+        return reservationRepository.findWithStoreById(reservationId)
                 .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
     }
 
@@ -117,8 +279,33 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         }
     }
 
-    private void checkStoreOwner(Long userId, Long reservationId) {
-        Long storeOwnerId = reservationRepository.findStoreOwnerId(reservationId);
+    /**
+     * 일괄 처리 시 예약별 검증 (예외 대신 실패 사유 반환, 통과 시 null)
+     */
+    private ErrorCode validateDecision(
+            Long userId, ReservationApproveStatus decision,
+            ReservationOwnerDto ownerStatus, LocalDateTime now
+    ) {
+
+        if (ownerStatus == null) {
+            return RESERVATION_NOT_FOUND;
+        }
+        if (!Objects.equals(userId, ownerStatus.getStoreOwnerId())) {
+            return RESERVATION_OWNER_NOT_MATCH;
+        }
+        if (ownerStatus.getApproveStatus() == decision) {
+            return decision == APPROVE
+                    ? RESERVATION_ALREADY_APPROVED : RESERVATION_ALREADY_DECLINED;
+        }
+        if (ownerStatus.getVisitAvailDt().isBefore(now)) {
+            return RESERVATION_ALREADY_EXPIRED;
+        }
+
+        return null;
+    }
+
+    private void checkStoreOwner(Long userId, Reservation findReservation) {
+        Long storeOwnerId = findReservation.getStore().getOwner().getId();
 
         if (!userId.equals(storeOwnerId)) {
             throw new CustomException(RESERVATION_OWNER_NOT_MATCH);
@@ -1,24 +1,32 @@
 package com.project.reservationservice.service.impl;
 
 import com.project.common.exception.CustomException;
+import com.project.common.util.TransactionUtil;
 import com.project.domain.dto.InitReservationDto;
 import com.project.domain.dto.ReservationDto;
 import com.project.domain.entity.Reservation;
 import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
+import com.project.domain.event.StoreActivityEvent;
 import com.project.domain.repository.ReservationRepository;
 import com.project.domain.repository.StoreRepository;
 import com.project.domain.repository.UserRepository;
+import com.project.reservationservice.index.ReservationSlotBitmap;
 import com.project.reservationservice.service.ReservationRegisterService;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 
 import static com.project.common.exception.ErrorCode.*;
+import static com.project.domain.type.StoreActivityType.RESERVATION;
 
 
 @Service
@@ -29,6 +37,8 @@ public class ReservationRegisterServiceImpl implements ReservationRegisterServic
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationSlotBitmap reservationSlotBitmap;
 
     @Override
     public ReservationDto makeReservation(InitReservationDto initReservationDto) {
@@ -51,6 +61,14 @@ public class ReservationRegisterServiceImpl implements ReservationRegisterServic
 //            throw new CustomException(RESERVATION_DATE_INVALID);
 //        }
 
+        // 이미 처리된 예약 요청이면 새로 생성하지 않고 기존 예약 반환
+        Optional<ReservationDto> processedReservation =
+                findByIdempotencyKey(initReservationDto.getIdempotencyKey());
+
+        if (processedReservation.isPresent()) {
+            return processedReservation.get();
+        }
+
         User findUser = userRepository.findById(initReservationDto.getCustomerId())
                 .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
@@ -64,8 +82,14 @@ public class ReservationRegisterServiceImpl implements ReservationRegisterServic
 
         Reservation savedReservation = reservationRepository.save(reservation);
 
-        // 고객의 예약 리스트에 추가
-//        customer.getReservationList().add(reservation);
+        // 상점 인기도 반영 (커밋 후)
+        eventPublisher.publishEvent(new StoreActivityEvent(findStore.getId(), RESERVATION));
+
+        // 예약 시간표 비트맵 반영 (커밋 후)
+        Long storeId = findStore.getId();
+        Long reservationId = savedReservation.getId();
+        LocalDateTime reserveDt = savedReservation.getReserveDt();
+        TransactionUtil.afterCommit(() -> reservationSlotBitmap.book(storeId, reservationId, reserveDt));
 
         return ReservationDto.fromEntity(savedReservation);
     }
@@ -95,6 +119,21 @@ public class ReservationRegisterServiceImpl implements ReservationRegisterServic
 
     }
 
+    /**
+     * 중복 요청 방지 키로 처리된 예약 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReservationDto> findByIdempotencyKey(String idempotencyKey) {
+
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return Optional.empty();
+        }
+
+        return reservationRepository.findByIdempotencyKey(idempotencyKey)
+                .map(ReservationDto::fromEntity);
+    }
+
     /**
      * 추후 키오스크에서 예약 확인 시 사용될 8자리 코드 생성
      */
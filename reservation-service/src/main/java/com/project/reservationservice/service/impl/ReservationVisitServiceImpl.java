@@ -4,11 +4,17 @@ import com.project.common.exception.CustomException;
 import com.project.domain.dto.VisitDto;
 import com.project.domain.entity.Kiosk;
 import com.project.domain.entity.Reservation;
+import com.project.domain.event.StoreActivityEvent;
 import com.project.domain.model.VisitDomainForm;
 import com.project.domain.repository.ReservationRepository;
 import com.project.domain.response.VisitResponse;
+import com.project.reservationservice.config.RetryConfig;
 import com.project.reservationservice.service.ReservationVisitService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +23,7 @@ import java.util.Objects;
 import static com.project.common.exception.ErrorCode.*;
 import static com.project.common.exception.ErrorCode.RESERVATION_ALREADY_VISIT;
 import static com.project.domain.type.ReservationApproveStatus.APPROVE;
+import static com.project.domain.type.StoreActivityType.VISIT;
 
 @Service
 @Transactional
@@ -24,9 +31,22 @@ import static com.project.domain.type.ReservationApproveStatus.APPROVE;
 public class ReservationVisitServiceImpl implements ReservationVisitService {
 
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
+    /**
+     * 예약 방문 처리
+     * 승인/거절 등 동시 변경으로 버전 충돌 시 다시 조회해서 재시도 (중복 방문 방지)
+     */
     @Override
+    @Retryable(
+            retryFor = OptimisticLockingFailureException.class,
+            maxAttempts = RetryConfig.MAX_ATTEMPTS,
+            backoff = @Backoff(
+                    delay = RetryConfig.BACKOFF_DELAY_MS,
+                    maxDelay = RetryConfig.BACKOFF_MAX_DELAY_MS
+            )
+    )
     public VisitDto visit(VisitDomainForm form) {
 
         Reservation findReservation =
@@ -39,6 +59,9 @@ public class ReservationVisitServiceImpl implements ReservationVisitService {
         // 해당 예약 방문으로 변경
         findReservation.visit();
 
+        // 상점 인기도 반영 (커밋 후, 버전 충돌로 롤백되면 반영 안 됨)
+        eventPublisher.publishEvent(new StoreActivityEvent(findReservation.getStore().getId(), VISIT));
+
         return VisitDto.fromReservation(findReservation);
     }
 
@@ -1,16 +1,19 @@
 package com.project.reviewservice.service.impl;
 
+import com.project.common.cache.StoreCatalogVersion;
 import com.project.common.exception.CustomException;
 import com.project.domain.dto.ReviewDto;
 import com.project.domain.entity.Reservation;
 import com.project.domain.entity.Review;
 import com.project.domain.entity.Store;
 import com.project.domain.entity.User;
+import com.project.domain.event.StoreStarChangedEvent;
 import com.project.domain.repository.ReviewRepository;
 import com.project.domain.repository.StoreRepository;
 import com.project.domain.type.UserType;
 import com.project.reviewservice.service.ReviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,12 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
 
+    // 별점 바뀌면 상점 검색 응답 캐시 무효화
+    private final StoreCatalogVersion storeCatalogVersion;
+
+    // 별점 변경 알림 (자동완성 등 별점 순 메모리 색인 갱신)
+    private final ApplicationEventPublisher eventPublisher;
+
 
     /**
      * 리뷰 작성
@@ -95,6 +104,9 @@ public class ReviewServiceImpl implements ReviewService {
     private void updateStar(Store store, int star) {
         Long count = reviewRepository.countByStore(store);
         store.calculateStar(star, count);
+
+        storeCatalogVersion.increase();
+        eventPublisher.publishEvent(new StoreStarChangedEvent(store.getId(), store.getStar()));
     }
 
     /**
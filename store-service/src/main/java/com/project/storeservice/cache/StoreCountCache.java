@@ -0,0 +1,44 @@
+package com.project.storeservice.cache;
+
+import com.project.domain.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 상점 수 근사값
+ * Slice 조회(count 쿼리 생략) 응답의 전체 개수로 사용
+ * 마지막 갱신 후 REFRESH_INTERVAL_MILLIS 지나면 요청 스레드 하나만 다시 count, 나머지는 이전 값 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCountCache {
+
+    private static final long REFRESH_INTERVAL_MILLIS = 60_000;
+
+    private final StoreRepository storeRepository;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile long count = -1;
+    private volatile long refreshedAt;
+
+    public long get() {
+
+        boolean expired = System.currentTimeMillis() - refreshedAt > REFRESH_INTERVAL_MILLIS;
+
+        // 처음 한번은 값이 없으므로 바로 조회
+        if ((count < 0 || expired) && refreshing.compareAndSet(false, true)) {
+            try {
+                count = storeRepository.count();
+                refreshedAt = System.currentTimeMillis();
+
+            } finally {
+                refreshing.set(false);
+            }
+        }
+
+        return count;
+    }
+}
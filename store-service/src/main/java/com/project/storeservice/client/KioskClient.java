@@ -8,9 +8,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "kiosk-service", url = "localhost:8081")
+// 주소는 client.kiosk-service.url 로 변경 가능 (기본값 localhost:8081)
+@FeignClient(name = KioskClient.CLIENT_NAME, url = "${client.kiosk-service.url:localhost:8081}")
 public interface KioskClient {
 
+    // feign client 설정에 사용하는 이름
+    String CLIENT_NAME = "kiosk-service";
+
     @PostMapping("/kiosk/add")
     ResponseEntity<Long> addKiosk(@RequestBody KioskAddDto kioskAddDto);
 }
@@ -3,6 +3,11 @@ package com.project.storeservice.config;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * OpenFeign 설정
+ * feign-hc5 의존성 추가로 기본 HttpURLConnection 대신 커넥션 풀 사용하는 Apache HttpClient5 사용
+ * 풀 크기, 클라이언트별 connect/read timeout은 application.yml (spring.cloud.openfeign) 에서 설정
+ */
 @EnableFeignClients(basePackages = "com.project")
 @Configuration
 public class OpenFeignConfig {
@@ -0,0 +1,49 @@
+package com.project.storeservice.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상점 이름, 설명 검색용 토크나이저
+ * 한글은 띄어쓰기, 조사 붙는 형태가 다양해서 형태소 분석 대신 2글자 단위(bigram)로 분리
+ * ex) "강남 맛집" -> [강남, 맛집], "강남역맛집" -> [강남, 남역, 역맛, 맛집]
+ * 1글자 단어는 그대로 사용
+ */
+public class KoreanNgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    public static List<String> tokenize(String text) {
+
+        List<String> grams = new ArrayList<>();
+
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+
+        // 전각 문자, 호환 자모 통일 후 소문자로 변환
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+
+        // 글자, 숫자 외의 문자는 단어 구분자로 사용
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            if (word.length() <= GRAM_SIZE) {
+                grams.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+
+        return grams;
+    }
+}
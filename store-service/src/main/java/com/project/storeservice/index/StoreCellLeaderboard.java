@@ -0,0 +1,418 @@
+package com.project.storeservice.index;
+
+import com.project.common.util.GeoUtil;
+import com.project.domain.entity.Store;
+import com.project.domain.repository.StoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 격자 칸별 가까운 상점 순위 (거리순 첫 페이지용)
+ * 상점이 있는 칸과 주변 칸마다 칸 중심에서 가까운 상점 TOP_K 개를 백그라운드에서 미리 계산
+ * 상점 추가/수정/삭제 시 바로 무효화하고 다시 계산
+ *
+ * 칸 중심 기준 순위를 유저 위치 기준으로 다시 정렬해서 사용
+ * -> 유저 기준 첫 페이지 상점이 모두 순위 안에 있다고 보장될 때만 반환, 아니면 DB 조회
+ *
+ * 좌표 없는 상점은 순위에서 제외 (반경 조건에는 포함되지 않으므로 결과 같음)
+ * 반경 없는 조회는 DB 에서 좌표 없는 상점도 함께 정렬되므로 이런 상점이 있으면 DB 조회
+ */
+@Slf4j
+@Component
+public class StoreCellLeaderboard {
+
+    // 칸 크기 (도), 약 1km
+    private static final double CELL_DEGREE = 0.01;
+
+    private static final double KM_PER_DEGREE = 111.195;
+
+    // 칸별 저장 개수, 페이지 크기보다 넉넉해야 유저가 칸 중심에서 떨어져 있어도 첫 페이지 보장 가능
+    public static final int TOP_K = 100;
+
+    // 칸 중심에서 몇 칸 떨어진 곳까지 상점 찾을지 (약 10km)
+    private static final int MAX_RING = 10;
+
+    private static final int LOAD_PAGE_SIZE = 1_000;
+
+    private final StoreRepository storeRepository;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "store-cell-leaderboard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    // 변경될 때마다 증가 (계산 도중 변경되면 계산 결과 버림)
+    private long generation;
+
+    private volatile Snapshot snapshot;
+
+
+    public StoreCellLeaderboard(StoreRepository storeRepository) {
+        this.storeRepository = storeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRebuild();
+    }
+
+    /**
+     * 상점 변경 시 호출 (커밋 후)
+     * 현재 순위는 바로 사용 중지, 백그라운드에서 다시 계산 (연속 변경은 한번으로 합침)
+     */
+    public void invalidate() {
+
+        synchronized (this) {
+            generation++;
+            snapshot = null;
+        }
+
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 유저 위치 기준 거리순 첫 페이지
+     * 미리 계산된 순위만으로 정확한 결과를 만들 수 없으면 empty
+     */
+    public Optional<LeaderboardPage> firstPage(double lat, double lon, Double radiusKm, int size) {
+
+        Snapshot current = snapshot;
+
+        if (current == null || size < 1 || size > TOP_K) {
+            return Optional.empty();
+        }
+
+        // 거리 없는 상점의 정렬 위치, 전체 개수가 DB 결과와 달라짐
+        if (radiusKm == null && current.missingLocationCount > 0) {
+            return Optional.empty();
+        }
+
+        long row = (long) Math.floor(lat / CELL_DEGREE);
+        long col = (long) Math.floor(lon / CELL_DEGREE);
+
+        CellRanking ranking = current.rankings.get(cellKey(row, col));
+
+        if (ranking == null) {
+            return Optional.empty();
+        }
+
+        // 유저와 칸 중심 사이 거리 (유저 기준 거리와 칸 중심 기준 거리의 최대 차이)
+        double offsetKm = GeoUtil.distanceKm(lat, lon, centerOf(row), centerOf(col));
+
+        List<Hit> hits = new ArrayList<>();
+
+        for (int index : ranking.storeIndexes) {
+
+            double distanceKm = GeoUtil.distanceKm(lat, lon, current.lats[index], current.lons[index]);
+
+            if (radiusKm == null || distanceKm <= radiusKm) {
+                hits.add(new Hit(current.storeIds[index], distanceKm));
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+
+        // 첫 페이지 마지막 상점 거리 (부족하면 반경 전체)
+        double neededKm = hits.size() >= size
+                ? hits.get(size - 1).getDistanceKm()
+                : radiusKm == null ? Double.POSITIVE_INFINITY : radiusKm;
+
+        // 유저 기준 neededKm 안의 상점은 칸 중심 기준 neededKm + offsetKm 안에 있음
+        if (!ranking.complete && neededKm + offsetKm >= ranking.coveredKm) {
+            return Optional.empty();
+        }
+
+        long total;
+
+        if (radiusKm == null) {
+            total = current.storeIds.length;
+
+        } else if (ranking.complete || radiusKm + offsetKm < ranking.coveredKm) {
+            total = hits.size();
+
+        } else {
+            // 반경 안 전체 개수를 알 수 없음
+            return Optional.empty();
+        }
+
+        return Optional.of(new LeaderboardPage(hits.subList(0, Math.min(size, hits.size())), total));
+    }
+
+
+    private void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+
+        rebuildPending.set(false);
+
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            Snapshot built = build();
+
+            synchronized (this) {
+                if (startGeneration == generation) {
+                    snapshot = built;
+                }
+            }
+
+            log.info("store cell leaderboard built : {} cells, {} stores, {} ms",
+                    built.rankings.size(), built.storeIds.length, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("store cell leaderboard build failed", e);
+        }
+    }
+
+    private Snapshot build() {
+
+        List<Store> stores = new ArrayList<>();
+        int missingLocationCount = 0;
+
+        PageRequest pageRequest = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("id"));
+        Page<Store> page;
+
+        do {
+            page = storeRepository.findAll(pageRequest);
+
+            for (Store store : page) {
+                if (store.getAddress().getLatitude() != null && store.getAddress().getLongitude() != null) {
+                    stores.add(store);
+                } else {
+                    missingLocationCount++;
+                }
+            }
+
+            pageRequest = pageRequest.next();
+
+        } while (page.hasNext());
+
+        long[] storeIds = new long[stores.size()];
+        double[] lats = new double[stores.size()];
+        double[] lons = new double[stores.size()];
+
+        // 칸 -> 칸 안의 상점 번호
+        Map<Long, List<Integer>> storesByCell = new HashMap<>();
+
+        for (int i = 0; i < stores.size(); i++) {
+
+            storeIds[i] = stores.get(i).getId();
+            lats[i] = stores.get(i).getAddress().getLatitude();
+            lons[i] = stores.get(i).getAddress().getLongitude();
+
+            long key = cellKey((long) Math.floor(lats[i] / CELL_DEGREE), (long) Math.floor(lons[i] / CELL_DEGREE));
+            storesByCell.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        // 상점 있는 칸과 주변 8칸만 계산
+        Set<Long> targetCells = new HashSet<>();
+
+        for (long key : storesByCell.keySet()) {
+            long row = rowOf(key);
+            long col = colOf(key);
+
+            for (long dRow = -1; dRow <= 1; dRow++) {
+                for (long dCol = -1; dCol <= 1; dCol++) {
+                    targetCells.add(cellKey(row + dRow, col + dCol));
+                }
+            }
+        }
+
+        Map<Long, CellRanking> rankings = new HashMap<>(targetCells.size() * 2);
+
+        for (long key : targetCells) {
+            rankings.put(key, rank(rowOf(key), colOf(key), storesByCell, lats, lons));
+        }
+
+        return new Snapshot(storeIds, lats, lons, rankings, missingLocationCount);
+    }
+
+    /**
+     * 칸 중심에서 가까운 상점 TOP_K
+     * 칸 중심에서 바깥 칸 방향으로 한 겹씩 넓혀가며 찾고,
+     * 아직 안 본 칸의 상점보다 K 번째 상점이 가까우면 중단
+     */
+    private CellRanking rank(
+            long row, long col, Map<Long, List<Integer>> storesByCell, double[] lats, double[] lons
+    ) {
+
+        double centerLat = centerOf(row);
+        double centerLon = centerOf(col);
+
+        // 한 칸의 최소 폭 (경도 방향이 더 짧음)
+        double cellKm = CELL_DEGREE * KM_PER_DEGREE
+                * Math.cos(Math.toRadians(Math.min(89, Math.abs(centerLat) + (MAX_RING + 1) * CELL_DEGREE)));
+
+        // 가까운 TOP_K 개만 유지 (가장 먼 상점이 맨 앞)
+        PriorityQueue<Candidate> nearest =
+                new PriorityQueue<>(Comparator.comparingDouble(Candidate::getDistanceKm).reversed());
+
+        int scanned = 0;
+        double guaranteedKm = 0;
+
+        for (int ring = 0; ring <= MAX_RING; ring++) {
+
+            // 이번 겹의 테두리 칸만 확인
+            for (long r = row - ring; r <= row + ring; r++) {
+
+                boolean edgeRow = Math.abs(r - row) == ring;
+                long step = edgeRow || ring == 0 ? 1 : 2L * ring;
+
+                for (long c = col - ring; c <= col + ring; c += step) {
+
+                    List<Integer> cellStores = storesByCell.get(cellKey(r, c));
+
+                    if (cellStores == null) {
+                        continue;
+                    }
+
+                    for (int index : cellStores) {
+
+                        scanned++;
+                        nearest.add(new Candidate(
+                                index, GeoUtil.distanceKm(centerLat, centerLon, lats[index], lons[index])
+                        ));
+
+                        if (nearest.size() > TOP_K) {
+                            nearest.poll();
+                        }
+                    }
+                }
+            }
+
+            // 아직 안 본 칸의 상점은 적어도 이 거리보다 멀리 있음
+            guaranteedKm = (ring + 0.5) * cellKm;
+
+            if (nearest.size() == TOP_K && nearest.peek().getDistanceKm() <= guaranteedKm) {
+                break;
+            }
+        }
+
+        boolean complete = scanned == lats.length && scanned <= TOP_K;
+
+        // 순위에 빠진 상점이 없다고 보장되는 거리
+        double coveredKm = nearest.size() == TOP_K
+                ? Math.min(guaranteedKm, nearest.peek().getDistanceKm())
+                : guaranteedKm;
+
+        int[] storeIndexes = nearest.stream()
+                .filter(candidate -> complete || candidate.getDistanceKm() <= coveredKm)
+                .sorted(Comparator.comparingDouble(Candidate::getDistanceKm))
+                .mapToInt(Candidate::getIndex)
+                .toArray();
+
+        return new CellRanking(storeIndexes, coveredKm, complete);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static long rowOf(long key) {
+        return key >> 32;
+    }
+
+    private static long colOf(long key) {
+        return (int) key;
+    }
+
+    private static double centerOf(long index) {
+        return (index + 0.5) * CELL_DEGREE;
+    }
+
+
+    /**
+     * 계산 결과 (상점 좌표는 배열로 저장하고 칸별 순위는 배열 번호만 저장)
+     */
+    @AllArgsConstructor
+    private static class Snapshot {
+
+        private final long[] storeIds;
+        private final double[] lats;
+        private final double[] lons;
+
+        private final Map<Long, CellRanking> rankings;
+
+        // 좌표 없어서 순위에서 제외한 상점 수
+        private final int missingLocationCount;
+    }
+
+    @AllArgsConstructor
+    private static class CellRanking {
+
+        // 칸 중심에서 가까운 순 상점 번호
+        private final int[] storeIndexes;
+
+        // 칸 중심에서 이 거리 안의 상점은 모두 storeIndexes 에 포함
+        private final double coveredKm;
+
+        // 전체 상점이 storeIndexes 에 포함
+        private final boolean complete;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+
+        // Snapshot 배열 번호
+        private final int index;
+
+        private final double distanceKm;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+
+        private final long storeId;
+
+        private final double distanceKm;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LeaderboardPage {
+
+        // 유저 기준 가까운 순
+        private final List<Hit> hits;
+
+        private final long total;
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.storeservice.index;
+
+import com.project.domain.entity.Store;
+import com.project.domain.repository.StoreRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 전체 상점 색인 (텍스트 검색, 이름 자동완성)
+ * 웹 서버, Kafka 리스너가 요청을 받기 전에 적재 -> 적재 중 상점 변경이 커밋 후 반영한 값을 이전 페이지 값으로 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreIndexLoader {
+
+    private static final int LOAD_PAGE_SIZE = 1_000;
+
+    private final StoreRepository storeRepository;
+    private final StoreTextIndex storeTextIndex;
+    private final StoreNameSuggestIndex storeNameSuggestIndex;
+
+    // 페이지마다 별도 조회 (한 트랜잭션으로 묶으면 전체 상점이 영속성 컨텍스트에 쌓임)
+    @PostConstruct
+    public void load() {
+
+        PageRequest pageRequest = PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("id"));
+        Page<Store> page;
+
+        do {
+            page = storeRepository.findAll(pageRequest);
+
+            page.forEach(store -> {
+                storeTextIndex.put(store.getId(), store.getName(), store.getDescription());
+                storeNameSuggestIndex.put(store.getId(), store.getName(), store.getStar());
+            });
+
+            pageRequest = pageRequest.next();
+
+        } while (page.hasNext());
+
+        log.info("store index loaded : {} stores", storeTextIndex.size());
+    }
+}
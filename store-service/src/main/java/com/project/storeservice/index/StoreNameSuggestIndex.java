@@ -0,0 +1,209 @@
+package com.project.storeservice.index;
+
+import com.project.domain.dto.StoreSuggestDto;
+import com.project.domain.event.StoreStarChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상점 이름 자동완성용 prefix trie
+ * 노드마다 하위 상점 중 별점 높은 순 상위 TOP_K 개를 미리 계산해 둠
+ * -> 조회는 검색어 길이만큼 노드 이동 후 목록 복사만 하면 됨
+ * 상점 추가/수정/삭제, 별점 변경 시 해당 경로의 노드만 다시 계산
+ */
+@Component
+public class StoreNameSuggestIndex {
+
+    public static final int TOP_K = 10;
+
+    // 별점 높은 순, 같으면 이름 순
+    private static final Comparator<StoreSuggestDto> RANKING =
+            Comparator.comparingDouble(StoreSuggestDto::getStar).reversed()
+                    .thenComparing(StoreSuggestDto::getName)
+                    .thenComparing(StoreSuggestDto::getStoreId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node();
+
+    // 상점 아이디 -> 색인된 항목 (수정, 삭제 시 기존 경로 찾기용)
+    private final Map<Long, StoreSuggestDto> suggestions = new HashMap<>();
+
+
+    public void put(Long storeId, String name, double star) {
+
+        lock.writeLock().lock();
+        try {
+            removeStore(storeId);
+
+            if (name == null || normalize(name).isEmpty()) {
+                return;
+            }
+
+            StoreSuggestDto suggestion = new StoreSuggestDto(storeId, name, star);
+            suggestions.put(storeId, suggestion);
+
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+
+            for (char c : normalize(name).toCharArray()) {
+                node = node.children.computeIfAbsent(c, key -> new Node());
+                path.add(node);
+            }
+
+            node.stores.put(storeId, suggestion);
+            recalculate(path);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long storeId) {
+
+        lock.writeLock().lock();
+        try {
+            removeStore(storeId);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 리뷰로 별점 바뀌면 커밋 후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStarChanged(StoreStarChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            StoreSuggestDto suggestion = suggestions.get(event.getStoreId());
+
+            if (suggestion != null) {
+                put(suggestion.getStoreId(), suggestion.getName(), event.getStar());
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 상점 이름 중 별점 높은 순으로 최대 size 개
+     */
+    public List<StoreSuggestDto> suggest(String prefix, int size) {
+
+        String normalized = normalize(prefix);
+
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+
+            for (char c : normalized.toCharArray()) {
+                node = node.children.get(c);
+
+                if (node == null) {
+                    return List.of();
+                }
+            }
+
+            return List.copyOf(node.topK.subList(0, Math.min(size, node.topK.size())));
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * 대소문자, 전각 문자, 공백 차이 무시
+     */
+    private String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private void removeStore(Long storeId) {
+
+        StoreSuggestDto suggestion = suggestions.remove(storeId);
+
+        if (suggestion == null) {
+            return;
+        }
+
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+
+        for (char c : normalize(suggestion.getName()).toCharArray()) {
+            node = node.children.get(c);
+            path.add(node);
+        }
+
+        node.stores.remove(storeId);
+        recalculate(path);
+        prune(normalize(suggestion.getName()), path);
+    }
+
+    /**
+     * 아래 노드부터 위로 올라가며 상위 TOP_K 다시 계산
+     * 노드의 목록 = 해당 노드에서 끝나는 상점 + 자식 노드들의 목록 중 상위 TOP_K
+     */
+    private void recalculate(List<Node> path) {
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+
+            Node node = path.get(i);
+
+            List<StoreSuggestDto> candidates = new ArrayList<>(node.stores.values());
+            node.children.values().forEach(child -> candidates.addAll(child.topK));
+
+            candidates.sort(RANKING);
+            node.topK = List.copyOf(candidates.subList(0, Math.min(TOP_K, candidates.size())));
+        }
+    }
+
+    /**
+     * 상점이 하나도 없는 노드 제거
+     */
+    private void prune(String key, List<Node> path) {
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+
+            Node node = path.get(i);
+
+            if (!node.stores.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+
+            Node parent = i == 0 ? root : path.get(i - 1);
+            parent.children.remove(key.charAt(i));
+        }
+    }
+
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+
+        // 이 노드에서 이름이 끝나는 상점
+        private final Map<Long, StoreSuggestDto> stores = new HashMap<>(1);
+
+        private List<StoreSuggestDto> topK = List.of();
+    }
+}
@@ -0,0 +1,318 @@
+package com.project.storeservice.index;
+
+import com.project.domain.event.StoreActivityEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 예약, 방문 수 기반 상점 인기도 순위
+ * 활동마다 가중치를 더하고 반감기(HALF_LIFE_MS)마다 절반으로 줄어드는 점수를 메모리에 보관
+ *
+ * 점수는 기준 시각(epoch) 시점 값으로 환산해서 저장 -> 활동 추가 시 다른 상점 점수는 건드리지 않음
+ * (기준 시각 이후 t 에 더하는 가중치 w 는 w * 2^((t - epoch) / 반감기) 로 저장)
+ * 주기적으로 기준 시각을 현재로 옮기면서 작은 점수 정리, 순위 다시 계산, 파일로 저장 (재시작 시 복구)
+ */
+@Slf4j
+@Component
+public class StorePopularityRanking {
+
+    // 3일 지나면 점수 절반
+    private static final long HALF_LIFE_MS = TimeUnit.DAYS.toMillis(3);
+
+    // 활동별 가중치 (방문은 실제 이용이므로 예약보다 높게)
+    private static final double RESERVATION_WEIGHT = 1.0;
+    private static final double VISIT_WEIGHT = 2.0;
+
+    // 이 점수 미만은 순위에서 제외 (예약 1건이 약 30일 지난 점수)
+    private static final double MIN_SCORE = 0.001;
+
+    // 순위 다시 계산 주기, 파일 저장 주기 (초)
+    private static final long REFRESH_INTERVAL_SEC = 10;
+    private static final long CHECKPOINT_INTERVAL_SEC = 60;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 상점 아이디 -> 기준 시각 시점 점수
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+    // 활동 추가(읽기 락)와 기준 시각 이동(쓰기 락)이 겹치지 않도록 락 안에서만 변경
+    private long epoch = System.currentTimeMillis();
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new double[0], epoch);
+
+    // 비어 있으면 파일 저장 안 함
+    private final Path checkpointPath;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "store-popularity-ranking");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    public StorePopularityRanking(
+            @Value("${store-popularity.checkpoint-path:}") String checkpointPath
+    ) {
+        this.checkpointPath = StringUtils.hasText(checkpointPath) ? Paths.get(checkpointPath) : null;
+    }
+
+    // Kafka 리스너가 예약 이벤트를 보내기 전에 저장된 점수 복구
+    @PostConstruct
+    public void initialize() {
+
+        restore();
+        refresh();
+
+        scheduler.scheduleWithFixedDelay(
+                this::refreshQuietly, REFRESH_INTERVAL_SEC, REFRESH_INTERVAL_SEC, TimeUnit.SECONDS
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::checkpoint, CHECKPOINT_INTERVAL_SEC, CHECKPOINT_INTERVAL_SEC, TimeUnit.SECONDS
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+
+        refresh();
+        checkpoint();
+    }
+
+    /**
+     * 예약 생성, 방문 확인 커밋 후 점수 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(StoreActivityEvent event) {
+
+        double weight = switch (event.getType()) {
+            case RESERVATION -> RESERVATION_WEIGHT;
+            case VISIT -> VISIT_WEIGHT;
+        };
+
+        lock.readLock().lock();
+        try {
+            scores.merge(event.getStoreId(), toEpochScore(weight, System.currentTimeMillis()), Double::sum);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상점 삭제 시 호출 (커밋 후), 순위에는 다음 계산 때 반영
+     */
+    public void remove(Long storeId) {
+
+        lock.readLock().lock();
+        try {
+            scores.remove(storeId);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기 순 상점 아이디 (마지막 순위 계산 기준)
+     */
+    public RankingPage page(long offset, int size) {
+
+        Snapshot current = snapshot;
+
+        int fromIndex = (int) Math.min(offset, current.storeIds.length);
+        int toIndex = Math.min(fromIndex + size, current.storeIds.length);
+
+        List<Long> storeIds = Arrays.stream(current.storeIds, fromIndex, toIndex)
+                .boxed()
+                .toList();
+
+        return new RankingPage(storeIds, current.storeIds.length);
+    }
+
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+
+        } catch (Exception e) {
+            log.warn("store popularity ranking refresh failed", e);
+        }
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 (모든 점수 감소 반영) 작은 점수 제거 후 순위 계산
+     */
+    private void refresh() {
+
+        long now = System.currentTimeMillis();
+        long[] storeIds;
+        double[] storeScores;
+
+        lock.writeLock().lock();
+        try {
+            double decay = Math.pow(2, -(double) (now - epoch) / HALF_LIFE_MS);
+
+            scores.replaceAll((storeId, score) -> score * decay);
+            scores.values().removeIf(score -> score < MIN_SCORE);
+            epoch = now;
+
+            storeIds = new long[scores.size()];
+            storeScores = new double[scores.size()];
+
+            int i = 0;
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                storeIds[i] = entry.getKey();
+                storeScores[i] = entry.getValue();
+                i++;
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 점수 높은 순, 같으면 아이디 순
+        Integer[] order = new Integer[storeIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> storeScores[a] != storeScores[b]
+                ? Double.compare(storeScores[b], storeScores[a])
+                : Long.compare(storeIds[a], storeIds[b]));
+
+        long[] rankedIds = new long[order.length];
+        double[] rankedScores = new double[order.length];
+
+        for (int i = 0; i < order.length; i++) {
+            rankedIds[i] = storeIds[order[i]];
+            rankedScores[i] = storeScores[order[i]];
+        }
+
+        snapshot = new Snapshot(rankedIds, rankedScores, now);
+    }
+
+    private double toEpochScore(double weight, long time) {
+        return weight * Math.pow(2, (double) (time - epoch) / HALF_LIFE_MS);
+    }
+
+
+    /**
+     * 마지막 순위 계산 결과를 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     * 첫 줄은 계산 시각, 이후 줄마다 상점 아이디,점수
+     */
+    private void checkpoint() {
+
+        if (checkpointPath == null) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+
+        try {
+            Path directory = checkpointPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+
+            Path tempFile = Files.createTempFile(directory, "store-popularity", ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+
+                writer.write(Long.toString(current.calculatedAt));
+                writer.newLine();
+
+                for (int i = 0; i < current.storeIds.length; i++) {
+                    writer.write(current.storeIds[i] + "," + current.scores[i]);
+                    writer.newLine();
+                }
+            }
+
+            Files.move(tempFile, checkpointPath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (Exception e) {
+            log.warn("store popularity checkpoint failed : {}", checkpointPath, e);
+        }
+    }
+
+    /**
+     * 저장된 점수 복구 (저장 시각을 기준 시각으로 사용 -> 다음 계산 때 그동안의 감소 반영)
+     * 파일이 없거나 읽을 수 없으면 빈 순위로 시작
+     */
+    private void restore() {
+
+        if (checkpointPath == null || !Files.exists(checkpointPath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(checkpointPath, StandardCharsets.UTF_8)) {
+
+            long savedAt = Long.parseLong(reader.readLine().trim());
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                int comma = line.indexOf(',');
+                scores.put(
+                        Long.parseLong(line.substring(0, comma)),
+                        Double.parseDouble(line.substring(comma + 1))
+                );
+            }
+
+            epoch = savedAt;
+
+            log.info("store popularity restored : {} stores", scores.size());
+
+        } catch (IOException | RuntimeException e) {
+            scores.clear();
+            log.warn("store popularity checkpoint ignored : {}", checkpointPath, e);
+        }
+    }
+
+
+    /**
+     * 순위 계산 결과 (점수 높은 순)
+     */
+    @AllArgsConstructor
+    private static class Snapshot {
+
+        private final long[] storeIds;
+        private final double[] scores;
+
+        private final long calculatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RankingPage {
+
+        private final List<Long> storeIds;
+
+        private final long total;
+    }
+}
@@ -0,0 +1,192 @@
+package com.project.storeservice.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상점 이름, 설명 텍스트 검색용 메모리 역색인
+ * 토큰(bigram) -> 상점별 가중치 목록
+ * 시작 시 StoreIndexLoader 가 전체 상점 색인, 이후 상점 추가/수정/삭제 시 커밋 후 반영
+ */
+@Component
+public class StoreTextIndex {
+
+    // 이름에 포함된 토큰은 설명보다 높은 가중치
+    private static final double NAME_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    // 검색어 토큰 중 최소 절반은 포함해야 결과에 포함
+    private static final double MIN_MATCH_RATIO = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> (상점 아이디 -> 가중치)
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+
+    // 상점 아이디 -> 색인된 토큰 (수정, 삭제 시 기존 색인 제거용)
+    private final Map<Long, Set<String>> storeTokens = new HashMap<>();
+
+
+    /**
+     * 상점 색인 (이미 있으면 기존 색인 지우고 다시 색인)
+     */
+    public void put(Long storeId, String name, String description) {
+
+        Map<String, Double> weights = new HashMap<>();
+        addWeights(weights, KoreanNgramTokenizer.tokenize(name), NAME_WEIGHT);
+        addWeights(weights, KoreanNgramTokenizer.tokenize(description), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeStore(storeId);
+
+            weights.forEach((token, weight) ->
+                    postings.computeIfAbsent(token, key -> new HashMap<>()).put(storeId, weight)
+            );
+            storeTokens.put(storeId, new HashSet<>(weights.keySet()));
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long storeId) {
+
+        lock.writeLock().lock();
+        try {
+            removeStore(storeId);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return storeTokens.size();
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 상점 점수 높은 순으로 최대 limit 개 반환
+     * 점수 = 토큰별 (idf * 상점 내 가중치) 합, 가장 높은 점수를 1로 맞춰서 반환
+     */
+    public List<TextMatch> search(String keyword, int limit) {
+
+        Set<String> queryTokens = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(keyword));
+
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> matchCounts = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int storeCount = storeTokens.size();
+
+            for (String token : queryTokens) {
+
+                Map<Long, Double> posting = postings.get(token);
+
+                if (posting == null) {
+                    continue;
+                }
+
+                // 적은 상점에만 있는 토큰일수록 높은 점수
+                double idf = Math.log(1 + (double) storeCount / posting.size());
+
+                posting.forEach((storeId, weight) -> {
+                    scores.merge(storeId, idf * weight, Double::sum);
+                    matchCounts.merge(storeId, 1, Integer::sum);
+                });
+            }
+
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int minMatchCount = (int) Math.ceil(queryTokens.size() * MIN_MATCH_RATIO);
+
+        List<TextMatch> matches = new ArrayList<>();
+        scores.forEach((storeId, score) -> {
+            if (matchCounts.get(storeId) >= minMatchCount) {
+                matches.add(new TextMatch(storeId, score));
+            }
+        });
+
+        matches.sort(Comparator.comparingDouble(TextMatch::getScore).reversed());
+
+        List<TextMatch> topMatches = matches.subList(0, Math.min(limit, matches.size()));
+
+        if (topMatches.isEmpty()) {
+            return List.of();
+        }
+
+        double maxScore = topMatches.get(0).getScore();
+
+        return topMatches.stream()
+                .map(match -> new TextMatch(match.getStoreId(), match.getScore() / maxScore))
+                .toList();
+    }
+
+
+    private void addWeights(Map<String, Double> weights, List<String> tokens, double fieldWeight) {
+
+        Map<String, Integer> counts = new HashMap<>();
+        tokens.forEach(token -> counts.merge(token, 1, Integer::sum));
+
+        // 같은 토큰 반복 시 가중치 증가폭 줄임 (1 + log(tf))
+        counts.forEach((token, count) ->
+                weights.merge(token, fieldWeight * (1 + Math.log(count)), Double::sum)
+        );
+    }
+
+    private void removeStore(Long storeId) {
+
+        Set<String> tokens = storeTokens.remove(storeId);
+
+        if (tokens == null) {
+            return;
+        }
+
+        for (String token : tokens) {
+
+            Map<Long, Double> posting = postings.get(token);
+            posting.remove(storeId);
+
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class TextMatch {
+
+        private final Long storeId;
+
+        // 텍스트 일치 점수 (0 ~ 1)
+        private final double score;
+    }
+}
@@ -1,9 +1,14 @@
 package com.project.storeservice.service;
 
 import com.project.domain.dto.StoreDto;
+import com.project.domain.dto.StoreSuggestDto;
+import com.project.domain.model.StoreSearchCondition;
 import com.project.domain.model.UserLocation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface StoreSearchService {
 
@@ -11,6 +16,21 @@ public interface StoreSearchService {
 
     Page<StoreDto> sortByStar(Pageable pageable);
     Page<StoreDto> sortByDistance(UserLocation userLocation, Pageable pageable);
+    Page<StoreDto> sortByPopularity(Pageable pageable);
+
+    // count 쿼리 없는 Slice 조회
+    Slice<StoreDto> sliceByName(Pageable pageable);
+    Slice<StoreDto> sliceByStar(Pageable pageable);
+    Slice<StoreDto> sliceByDistance(UserLocation userLocation, Pageable pageable);
+
+    // Slice 조회 응답에 사용할 전체 상점 수 근사값
+    long approximateStoreCount();
+
+    Page<StoreDto> search(StoreSearchCondition condition, Pageable pageable);
+
+    Page<StoreDto> searchByText(String keyword, UserLocation userLocation, Pageable pageable);
+
+    List<StoreSuggestDto> suggest(String prefix, int size);
 
 
 }
@@ -1,8 +1,10 @@
 package com.project.storeservice.service.impl;
 
+import com.project.common.cache.StoreCatalogVersion;
 import com.project.common.exception.CustomException;
 import com.project.common.exception.ErrorCode;
-import com.project.common.util.GeoUtil;
+import com.project.common.geo.ServiceArea;
+import com.project.common.util.TransactionUtil;
 import com.project.domain.dto.KioskAddDto;
 import com.project.domain.dto.StoreDto;
 import com.project.domain.entity.Store;
@@ -11,7 +13,12 @@ import com.project.domain.model.StoreDomainForm;
 import com.project.domain.repository.ReservationRepository;
 import com.project.domain.repository.ReviewRepository;
 import com.project.domain.repository.StoreRepository;
+import com.project.reservationservice.index.ReservationSlotBitmap;
 import com.project.storeservice.client.KioskClient;
+import com.project.storeservice.index.StoreCellLeaderboard;
+import com.project.storeservice.index.StoreNameSuggestIndex;
+import com.project.storeservice.index.StorePopularityRanking;
+import com.project.storeservice.index.StoreTextIndex;
 import com.project.storeservice.service.StoreManagementService;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
@@ -32,15 +39,30 @@ public class StoreManagementServiceImpl implements StoreManagementService {
     private final ReviewRepository reviewRepository;
 
     private final KioskClient kioskClient;
+    private final ServiceArea serviceArea;
+
+    // 상점 검색 응답 캐시 무효화
+    private final StoreCatalogVersion storeCatalogVersion;
+
+    // 상점 텍스트 검색, 이름 자동완성 색인 (커밋 후 반영)
+    private final StoreTextIndex storeTextIndex;
+    private final StoreNameSuggestIndex storeNameSuggestIndex;
+
+    // 거리순 첫 페이지용 격자별 순위 (위치 바뀌면 다시 계산)
+    private final StoreCellLeaderboard storeCellLeaderboard;
+
+    // 인기 순 순위 (삭제 시 제거)
+    private final StorePopularityRanking storePopularityRanking;
+
+    // 예약 가능 시간표 비트맵 (삭제 시 제거)
+    private final ReservationSlotBitmap reservationSlotBitmap;
 
     // 상점 추가 기능
     @Override
     public StoreDto addStore(User partner, StoreDomainForm form) {
 
-        // 위도, 경도 값 정상값인지 확인 (정상 값 아닐 경우 에러 발생)
-        GeoUtil.isValidLocation(
-                form.getAddress().getLatitude(), form.getAddress().getLongitude()
-        );
+        // 서비스 지역 안의 위도, 경도인지 확인 (아닐 경우 에러 발생)
+        checkServiceArea(form);
 
         Store newStore = Store.fromForm(form, partner);
         Store savedStore = storeRepository.save(newStore);
@@ -62,6 +84,9 @@ public class StoreManagementServiceImpl implements StoreManagementService {
         // 키오스크 등록 적절히 되지 않으면 에러 발생
         checkSuccessAddKiosk(kioskStoreId, savedStore);
 
+        storeCatalogVersion.increase();
+        indexAfterCommit(savedStore);
+
         // dto로 변환해서 반환
         return StoreDto.fromEntity(savedStore);
     }
@@ -71,8 +96,13 @@ public class StoreManagementServiceImpl implements StoreManagementService {
     @Override
     public StoreDto updateStore(Store store, StoreDomainForm form) {
 
+        checkServiceArea(form);
+
         store.updateStore(form);
 
+        storeCatalogVersion.increase();
+        indexAfterCommit(store);
+
         return StoreDto.fromEntity(store);
     }
 
@@ -89,9 +119,40 @@ public class StoreManagementServiceImpl implements StoreManagementService {
 
         // 해당 상점 삭제
         storeRepository.delete(store);
+
+        storeCatalogVersion.increase();
+
+        Long storeId = store.getId();
+        TransactionUtil.afterCommit(() -> {
+            storeTextIndex.remove(storeId);
+            storeNameSuggestIndex.remove(storeId);
+            storeCellLeaderboard.invalidate();
+            storePopularityRanking.remove(storeId);
+            reservationSlotBitmap.removeStore(storeId);
+        });
+    }
+
+
+
+    private void checkServiceArea(StoreDomainForm form) {
+        if (!serviceArea.contains(form.getAddress().getLatitude(), form.getAddress().getLongitude())) {
+            throw new CustomException(GPS_COORDINATE_INVALID);
+        }
     }
 
+    private void indexAfterCommit(Store store) {
 
+        Long storeId = store.getId();
+        String name = store.getName();
+        String description = store.getDescription();
+        double star = store.getStar();
+
+        TransactionUtil.afterCommit(() -> {
+            storeTextIndex.put(storeId, name, description);
+            storeNameSuggestIndex.put(storeId, name, star);
+            storeCellLeaderboard.invalidate();
+        });
+    }
 
     private void checkSuccessAddKiosk(Long kioskStoreId, Store savedStore) {
         if (kioskStoreId == null || !kioskStoreId.equals(savedStore.getId())) {
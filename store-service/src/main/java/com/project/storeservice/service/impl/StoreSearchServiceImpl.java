@@ -1,18 +1,51 @@
 package com.project.storeservice.service.impl;
 
+import com.project.common.exception.CustomException;
+import com.project.common.geo.ServiceArea;
 import com.project.common.util.GeoUtil;
 import com.project.domain.dto.StoreDto;
+import com.project.domain.dto.StoreSuggestDto;
+import com.project.domain.entity.Address;
+import com.project.domain.entity.Store;
+import com.project.domain.model.StoreDistance;
+import com.project.domain.model.StoreSearchCondition;
 import com.project.domain.model.UserLocation;
 import com.project.domain.repository.StoreQueryRepository;
 import com.project.domain.repository.StoreRepository;
+import com.project.domain.type.StoreSortType;
+import com.project.storeservice.cache.StoreCountCache;
+import com.project.storeservice.index.StoreCellLeaderboard;
+import com.project.storeservice.index.StoreCellLeaderboard.Hit;
+import com.project.storeservice.index.StoreCellLeaderboard.LeaderboardPage;
+import com.project.storeservice.index.StoreNameSuggestIndex;
+import com.project.storeservice.index.StorePopularityRanking;
+import com.project.storeservice.index.StorePopularityRanking.RankingPage;
+import com.project.storeservice.index.StoreTextIndex;
+import com.project.storeservice.index.StoreTextIndex.TextMatch;
 import com.project.storeservice.service.StoreSearchService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.project.common.exception.ErrorCode.GPS_COORDINATE_INVALID;
+import static com.project.common.exception.ErrorCode.SEARCH_CONDITION_INVALID;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,6 +54,24 @@ public class StoreSearchServiceImpl implements StoreSearchService {
 
     private final StoreRepository storeRepository;
     private final StoreQueryRepository storeQueryRepository;
+    private final StoreTextIndex storeTextIndex;
+    private final StoreNameSuggestIndex storeNameSuggestIndex;
+    private final StoreCountCache storeCountCache;
+    private final ServiceArea serviceArea;
+    private final StoreCellLeaderboard storeCellLeaderboard;
+    private final StorePopularityRanking storePopularityRanking;
+
+    // 별점 범위
+    private static final double MIN_STAR = 0;
+    private static final double MAX_STAR = 5;
+
+    // 텍스트 검색 후보 최대 개수 (후보 안에서 별점, 거리 반영해서 다시 정렬)
+    private static final int MAX_TEXT_CANDIDATES = 500;
+
+    // 텍스트 검색 점수 가중치 (텍스트 일치, 별점, 거리)
+    private static final double TEXT_WEIGHT = 0.6;
+    private static final double STAR_WEIGHT = 0.25;
+    private static final double DISTANCE_WEIGHT = 0.15;
 
 
     // 이름 순 정렬
@@ -48,16 +99,284 @@ public class StoreSearchServiceImpl implements StoreSearchService {
     @Override
     public Page<StoreDto> sortByDistance(UserLocation userLocation, Pageable pageable) {
 
-        // 위도, 경도 값 정상값인지 확인 (정상 값 아닐 경우 에러 발생)
-        GeoUtil.isValidLocation(userLocation.getLat(), userLocation.getLon());
+        // 서비스 지역 밖이면 주변 상점 없음 (예외 없이 빈 결과, DB 조회 안 함)
+        if (!serviceArea.contains(userLocation.getLat(), userLocation.getLon())) {
+            return Page.empty(pageable);
+        }
 
-        // QueryDsl을 사용한 custom repository 구현
-        return storeQueryRepository.findSortByDistance(
-                        pageable, userLocation.getLat(), userLocation.getLon()
-                )
+        GeoUtil.isValidRadius(userLocation.getRadiusKm());
+
+        // 첫 페이지는 미리 계산된 격자별 순위에서 조회 (정확한 결과 보장 안 되면 DB 조회)
+        Optional<Page<StoreDto>> firstPage = firstPageFromLeaderboard(userLocation, pageable);
+
+        if (firstPage.isPresent()) {
+            return firstPage.get();
+        }
+
+        // QueryDsl을 사용한 custom repository 구현 (반경 있으면 반경 안의 상점만)
+        return storeQueryRepository.findSortByDistance(pageable, userLocation)
+                .map(storeDistance -> StoreDto.fromStoreDistance(
+                        withDisplayDistance(storeDistance, userLocation)
+                ));
+    }
+
+    /**
+     * 인기 순 정렬 (최근 예약, 방문 많은 순)
+     * 메모리 순위에서 페이지만큼 아이디 가져와 조회, 최근 활동 없는 상점은 포함 안 됨
+     */
+    @Override
+    public Page<StoreDto> sortByPopularity(Pageable pageable) {
+
+        RankingPage rankingPage = storePopularityRanking.page(pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Store> storeMap = storeRepository
+                .findAllById(rankingPage.getStoreIds())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        // 순위 계산 후 삭제된 상점은 제외
+        List<StoreDto> content = rankingPage.getStoreIds().stream()
+                .filter(storeMap::containsKey)
+                .map(storeId -> StoreDto.fromEntity(storeMap.get(storeId)))
+                .toList();
+
+        return new PageImpl<>(content, pageable, rankingPage.getTotal());
+    }
+
+
+    // 이름 순 정렬 (count 쿼리 없음)
+    @Override
+    public Slice<StoreDto> sliceByName(Pageable pageable) {
+        return storeRepository.findSliceBy(getPageRequest(pageable, Sort.by("name")))
+                .map(StoreDto::fromEntity);
+    }
+
+    // 별점 순 정렬 (count 쿼리 없음)
+    @Override
+    public Slice<StoreDto> sliceByStar(Pageable pageable) {
+        return storeRepository.findSliceBy(getPageRequest(pageable, Sort.by(Sort.Direction.DESC, "star")))
                 .map(StoreDto::fromEntity);
     }
 
+    // 거리 순 정렬 (count 쿼리 없음)
+    @Override
+    public Slice<StoreDto> sliceByDistance(UserLocation userLocation, Pageable pageable) {
+
+        if (!serviceArea.contains(userLocation.getLat(), userLocation.getLon())) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        GeoUtil.isValidRadius(userLocation.getRadiusKm());
+
+        return storeQueryRepository.findSliceByDistance(pageable, userLocation)
+                .map(storeDistance -> StoreDto.fromStoreDistance(
+                        withDisplayDistance(storeDistance, userLocation)
+                ));
+    }
+
+    @Override
+    public long approximateStoreCount() {
+        return storeCountCache.get();
+    }
+
+
+    // 통합 검색 (상태, 최소 별점, 이름, 반경 조건 조합)
+    @Override
+    public Page<StoreDto> search(StoreSearchCondition condition, Pageable pageable) {
+
+        validateCondition(condition);
+
+        // 서비스 지역 밖이면 주변 상점 없음
+        if (condition.hasLocation() && !serviceArea.contains(condition.getLat(), condition.getLon())) {
+            return Page.empty(pageable);
+        }
+
+        UserLocation userLocation = condition.toUserLocation();
+
+        return storeQueryRepository.search(condition, pageable)
+                .map(storeDistance -> StoreDto.fromStoreDistance(
+                        userLocation == null
+                                ? storeDistance
+                                : withDisplayDistance(storeDistance, userLocation)
+                ));
+    }
+
+
+    /**
+     * 상점 이름, 설명 텍스트 검색
+     * 역색인에서 후보 찾은 뒤 텍스트 점수 + 별점 + 거리(위치 있을 때) 합산 점수 순으로 정렬
+     */
+    @Override
+    public Page<StoreDto> searchByText(String keyword, UserLocation userLocation, Pageable pageable) {
+
+        if (!StringUtils.hasText(keyword)) {
+            throw new CustomException(SEARCH_CONDITION_INVALID);
+        }
+
+        // 서비스 지역 밖의 위치는 거리 점수에 반영하지 않음
+        boolean hasLocation = serviceArea.contains(userLocation.getLat(), userLocation.getLon());
+
+        List<TextMatch> matches = storeTextIndex.search(keyword, MAX_TEXT_CANDIDATES);
+
+        // 후보 상점 한번에 조회
+        Map<Long, Store> storeMap = storeRepository
+                .findAllById(matches.stream().map(TextMatch::getStoreId).toList())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        List<RankedStore> rankedStores = matches.stream()
+                .filter(match -> storeMap.containsKey(match.getStoreId()))
+                .map(match -> rank(match, storeMap.get(match.getStoreId()), userLocation, hasLocation))
+                .sorted(Comparator.comparingDouble(RankedStore::getScore).reversed())
+                .toList();
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedStores.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedStores.size());
+
+        List<StoreDto> content = rankedStores.subList(fromIndex, toIndex).stream()
+                .map(rankedStore -> StoreDto.fromStoreDistance(rankedStore.getStoreDistance()))
+                .toList();
+
+        return new PageImpl<>(content, pageable, rankedStores.size());
+    }
+
+    /**
+     * 상점 이름 자동완성 (DB 조회 없이 메모리 trie 에서 바로 반환)
+     */
+    @Override
+    public List<StoreSuggestDto> suggest(String prefix, int size) {
+
+        if (size < 1 || size > StoreNameSuggestIndex.TOP_K) {
+            throw new CustomException(SEARCH_CONDITION_INVALID);
+        }
+
+        return storeNameSuggestIndex.suggest(prefix, size);
+    }
+
+    /**
+     * 텍스트 검색 합산 점수 계산
+     * 거리 점수는 가까울수록 1에 가까움 (1 / (1 + km))
+     */
+    private RankedStore rank(TextMatch match, Store store, UserLocation userLocation, boolean hasLocation) {
+
+        double score = TEXT_WEIGHT * match.getScore()
+                + STAR_WEIGHT * (store.getStar() / MAX_STAR);
+
+        Double distanceKm = null;
+        Address address = store.getAddress();
+
+        // 좌표 없는 상점은 거리 점수 없이 텍스트, 별점 점수만 사용
+        if (hasLocation && address != null
+                && address.getLatitude() != null && address.getLongitude() != null) {
+
+            distanceKm = GeoUtil.distanceKm(
+                    userLocation.getLat(), userLocation.getLon(),
+                    address.getLatitude(), address.getLongitude()
+            );
+            score += DISTANCE_WEIGHT / (1 + distanceKm);
+        }
+
+        return new RankedStore(new StoreDistance(store, distanceKm), score);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RankedStore {
+
+        private final StoreDistance storeDistance;
+
+        private final double score;
+    }
+
+
+    /**
+     * 통합 검색 조건 확인
+     * 위도, 경도는 둘 다 있거나 둘 다 없어야 하고 반경, 거리순 정렬은 위치 필요
+     */
+    private void validateCondition(StoreSearchCondition condition) {
+
+        if (condition.getMinStar() != null
+                && (condition.getMinStar() < MIN_STAR || condition.getMinStar() > MAX_STAR)) {
+            throw new CustomException(SEARCH_CONDITION_INVALID);
+        }
+
+        if (condition.hasLocation()) {
+            GeoUtil.isValidRadius(condition.getRadiusKm());
+            return;
+        }
+
+        if (condition.getLat() != null || condition.getLon() != null
+                || condition.getRadiusKm() != null
+                || condition.getOrderBy() == StoreSortType.DISTANCE) {
+            throw new CustomException(GPS_COORDINATE_INVALID);
+        }
+    }
+
+
+    /**
+     * 격자별 순위로 거리순 첫 페이지 구성
+     * 근사 정렬(APPROXIMATE)은 DB 정렬 결과와 다를 수 있으므로 사용하지 않음
+     */
+    private Optional<Page<StoreDto>> firstPageFromLeaderboard(UserLocation userLocation, Pageable pageable) {
+
+        if (pageable.getPageNumber() != 0 || userLocation.isApproximate()) {
+            return Optional.empty();
+        }
+
+        Optional<LeaderboardPage> leaderboardPage = storeCellLeaderboard.firstPage(
+                userLocation.getLat(), userLocation.getLon(),
+                userLocation.getRadiusKm(), pageable.getPageSize()
+        );
+
+        if (leaderboardPage.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Hit> hits = leaderboardPage.get().getHits();
+
+        // 별점 등 최신 상점 정보는 아이디로 조회 (2차 캐시)
+        Map<Long, Store> storeMap = storeRepository
+                .findAllById(hits.stream().map(Hit::getStoreId).toList())
+                .stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        // 순위 계산 후 삭제된 상점 있으면 DB 조회
+        if (storeMap.size() != hits.size()) {
+            return Optional.empty();
+        }
+
+        List<StoreDto> content = hits.stream()
+                .map(hit -> StoreDto.fromStoreDistance(
+                        new StoreDistance(storeMap.get(hit.getStoreId()), hit.getDistanceKm())
+                ))
+                .toList();
+
+        return Optional.of(new PageImpl<>(content, pageable, leaderboardPage.get().getTotal()));
+    }
+
+    // 근사 정렬 결과, 좌표 없는 상점은 거리 없음 -> 페이지에 포함된 상점만 거리 계산
+    private StoreDistance withDisplayDistance(StoreDistance storeDistance, UserLocation userLocation) {
+
+        if (storeDistance.getDistanceKm() != null) {
+            return storeDistance;
+        }
+
+        Address address = storeDistance.getStore().getAddress();
+
+        // 좌표 없는 상점은 거리 없이 표시 (반경 없는 거리순 조회에 포함됨)
+        if (address == null || address.getLatitude() == null || address.getLongitude() == null) {
+            return storeDistance;
+        }
+
+        return new StoreDistance(
+                storeDistance.getStore(),
+                GeoUtil.distanceKm(
+                        userLocation.getLat(), userLocation.getLon(),
+                        address.getLatitude(), address.getLongitude()
+                )
+        );
+    }
+
 
     // StoreDto로 변환해 반환하는 코드 중복 제거
     private Page<StoreDto> toStoreDtoList(PageRequest pageRequest) {